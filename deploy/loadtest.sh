@@ -0,0 +1,87 @@
+#!/bin/bash
+# =============================================================================
+# Predictify Backend - Prueba de carga: virtual threads vs platform threads
+# =============================================================================
+# Levanta el backend dos veces contra el Postgres local de docker-compose
+# (VIRTUAL_THREADS_ENABLED=true y false) y mide throughput y p99 con `hey`.
+#
+# Requisitos: docker compose, hey (https://github.com/rakyll/hey), Java 21
+# Uso: ./deploy/loadtest.sh [concurrencia] [duración]
+#   ./deploy/loadtest.sh 200 30s
+# =============================================================================
+
+set -e
+
+CONCURRENCY=${1:-200}
+DURATION=${2:-30s}
+BASE_URL="http://localhost:8081"
+RESULTS_DIR="deploy/loadtest/results"
+
+# Colores
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+log_info() { echo -e "${GREEN}[INFO]${NC} $1"; }
+log_warn() { echo -e "${YELLOW}[WARN]${NC} $1"; }
+
+command -v hey >/dev/null || { log_warn "hey no está instalado"; exit 1; }
+
+mkdir -p "$RESULTS_DIR"
+
+log_info "Levantando Postgres..."
+docker compose up -d db
+until docker compose exec -T db pg_isready -U postgres -d predictify_db >/dev/null 2>&1; do sleep 1; done
+
+log_info "Compilando..."
+./mvnw -q -DskipTests package
+JAR=$(ls target/backend-*.jar | grep -v plain | head -1)
+
+wait_for_app() {
+    until curl -sf "$BASE_URL/actuator/health" >/dev/null; do sleep 1; done
+}
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+    local out="$RESULTS_DIR/$mode.txt"
+
+    log_info "Modo $mode (VIRTUAL_THREADS_ENABLED=$virtual)"
+    VIRTUAL_THREADS_ENABLED=$virtual java -jar "$JAR" --logging.level.root=WARN \
+        --logging.level.org.hibernate.SQL=WARN --spring.jpa.show-sql=false > "$RESULTS_DIR/$mode.log" 2>&1 &
+    local pid=$!
+    wait_for_app
+
+    # Usuario para el escenario de login (BCrypt); ignora el error si ya existe
+    curl -s -o /dev/null -X POST "$BASE_URL/api/v1/auth/register" -H "Content-Type: application/json" \
+        -d '{"name":"Load Test","email":"loadtest@example.com","password":"loadtest123","role":"ATTENDEE"}' || true
+
+    # Calentamiento del JIT y del pool de conexiones
+    hey -z 10s -c 50 "$BASE_URL/api/v1/events/search?keyword=a" >/dev/null
+
+    : > "$out"
+    for scenario in \
+        "search|$BASE_URL/api/v1/events/search?keyword=a" \
+        "sparse|$BASE_URL/api/v1/events?fields=id,title,startDate,location.city"; do
+        local name=${scenario%%|*}
+        local url=${scenario#*|}
+        echo "== $name" >> "$out"
+        hey -z "$DURATION" -c "$CONCURRENCY" "$url" | grep -E "Requests/sec|99% in|Status code|\[[0-9]+\]" >> "$out"
+    done
+    echo "== login" >> "$out"
+    hey -z "$DURATION" -c "$CONCURRENCY" -m POST -H "Content-Type: application/json" \
+        -d '{"email":"loadtest@example.com","password":"loadtest123"}' \
+        "$BASE_URL/api/v1/auth/login" | grep -E "Requests/sec|99% in|Status code|\[[0-9]+\]" >> "$out"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+log_info "Resultados (concurrencia $CONCURRENCY, $DURATION por escenario):"
+for mode in platform virtual; do
+    echo "---- $mode"
+    cat "$RESULTS_DIR/$mode.txt"
+done
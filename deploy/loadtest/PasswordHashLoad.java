@@ -0,0 +1,104 @@
+import com.predictifylabs.backend.infrastructure.config.BoundedPasswordEncoder;
+import com.predictifylabs.backend.infrastructure.config.ServiceBusyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Login burst on virtual threads, without and with {@link BoundedPasswordEncoder}.
+ * Each login blocks 5 ms, standing for the user lookup, then runs the BCrypt check the
+ * login endpoint does. Next to them a probe stands for every other request: a trivial
+ * virtual thread started every 20 ms, whose latency is the time it waited for a carrier.
+ * Run through deploy/loadtest/password-hash.sh.
+ */
+public class PasswordHashLoad {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+        int cores = Runtime.getRuntime().availableProcessors();
+        var bcrypt = new BCryptPasswordEncoder();
+        String hash = bcrypt.encode("loadtest123");
+
+        System.out.printf("cores=%d carriers=%s concurrency=%d duration=%ds java=%s%n", cores,
+                System.getProperty("jdk.virtualThreadScheduler.parallelism", String.valueOf(cores)),
+                concurrency, duration.toSeconds(), Runtime.version());
+        run("unbounded", bcrypt, hash, concurrency, duration);
+        run("bounded", new BoundedPasswordEncoder(bcrypt, Math.max(1, cores - 1),
+                Duration.ofSeconds(2), Duration.ofSeconds(1)), hash, concurrency, duration);
+    }
+
+    private static void run(String name, PasswordEncoder encoder, String hash, int concurrency, Duration duration)
+            throws InterruptedException {
+        var stop = new AtomicBoolean();
+        List<Long> logins = Collections.synchronizedList(new ArrayList<>());
+        List<Long> probes = Collections.synchronizedList(new ArrayList<>());
+        var rejected = new AtomicLong();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    while (!stop.get()) {
+                        long start = System.nanoTime();
+                        try {
+                            // The user lookup before the hash, which unmounts the virtual thread
+                            sleep(5);
+                            encoder.matches("loadtest123", hash);
+                            logins.add(System.nanoTime() - start);
+                        } catch (ServiceBusyException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            // Started from a platform thread, like Tomcat's poller hands requests to virtual threads
+            var prober = Thread.ofPlatform().start(() -> {
+                while (!stop.get()) {
+                    long scheduled = System.nanoTime();
+                    Thread.startVirtualThread(() -> probes.add(System.nanoTime() - scheduled));
+                    sleep(20);
+                }
+            });
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+            stop.set(true);
+            prober.join();
+        }
+
+        System.out.printf("== %s%n", name);
+        System.out.printf("logins ok: %d (%.1f/s), rejected with 503: %d%n",
+                logins.size(), logins.size() / (double) duration.toSeconds(), rejected.get());
+        System.out.printf("login latency ms: p50 %.0f, p99 %.0f, max %.0f%n",
+                percentile(logins, 50), percentile(logins, 99), percentile(logins, 100));
+        System.out.printf("other request latency ms (%d probes): p50 %.1f, p99 %.1f, max %.1f%n",
+                probes.size(), percentile(probes, 50), percentile(probes, 99), percentile(probes, 100));
+    }
+
+    private static double percentile(List<Long> nanos, int percentile) {
+        if (nanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted;
+        synchronized (nanos) {
+            sorted = new ArrayList<>(nanos);
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
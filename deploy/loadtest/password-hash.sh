@@ -0,0 +1,33 @@
+#!/bin/bash
+# =============================================================================
+# Predictify Backend - Prueba de carga: logins BCrypt en virtual threads
+# =============================================================================
+# Ejecuta PasswordHashLoad en proceso, sin base de datos: una ráfaga de logins
+# sin límite y con BoundedPasswordEncoder, midiendo la latencia de los logins,
+# los 503 y la espera de cualquier otra petición por un carrier thread.
+#
+# Requisitos: Java 21
+# Uso: ./deploy/loadtest/password-hash.sh [concurrencia] [segundos]
+#   ./deploy/loadtest/password-hash.sh 200 20
+#   JAVA_OPTS=-XX:ActiveProcessorCount=2 ./deploy/loadtest/password-hash.sh   # simula 2 cores
+# =============================================================================
+
+set -e
+
+CONCURRENCY=${1:-200}
+SECONDS_PER_RUN=${2:-20}
+RESULTS_DIR="deploy/loadtest/results"
+
+GREEN='\033[0;32m'
+NC='\033[0m'
+
+log_info() { echo -e "${GREEN}[INFO]${NC} $1"; }
+
+mkdir -p "$RESULTS_DIR" target/loadtest
+
+log_info "Compilando..."
+./mvnw -q -DskipTests compile dependency:build-classpath -Dmdep.outputFile=target/loadtest/classpath.txt
+
+log_info "Ráfaga de $CONCURRENCY logins durante ${SECONDS_PER_RUN}s por modo"
+java $JAVA_OPTS -cp "target/classes:$(cat target/loadtest/classpath.txt)" deploy/loadtest/PasswordHashLoad.java \
+    "$CONCURRENCY" "$SECONDS_PER_RUN" | tee -a "$RESULTS_DIR/password-hash.txt"
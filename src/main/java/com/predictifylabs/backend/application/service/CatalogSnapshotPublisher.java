@@ -0,0 +1,180 @@
+package com.predictifylabs.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized snapshots of the public catalog lists.
+ * Each list is rendered to JSON and gzip once per refresh and served as bytes, so a request
+ * costs no query and no serialization. A snapshot is only replaced when its content hash
+ * changes; the hash is the ETag, and a changed list is optionally purged from the reverse
+ * proxy cache so nginx does not serve it until its max-age runs out.
+ */
+@Service
+@Slf4j
+public class CatalogSnapshotPublisher {
+
+    /**
+     * Published lists, with the paths serving them and their surrogate key
+     */
+    public enum CatalogList {
+        UPCOMING("catalog-events", "/api/v1/events", "/api/v1/events/upcoming"),
+        FEATURED("catalog-featured", "/api/v1/events/featured"),
+        TRENDING("catalog-trending", "/api/v1/events/trending"),
+        ORGANIZERS("catalog-organizers", "/api/v1/organizers");
+
+        private final String surrogateKey;
+        private final List<String> paths;
+
+        CatalogList(String surrogateKey, String... paths) {
+            this.surrogateKey = surrogateKey;
+            this.paths = List.of(paths);
+        }
+
+        public String surrogateKey() {
+            return "catalog " + surrogateKey;
+        }
+    }
+
+    /**
+     * One rendered list; the arrays are never modified after publication
+     */
+    public record Snapshot(byte[] json, byte[] gzip, String etag, long lastModified) {}
+
+    private final ObjectMapper objectMapper;
+    private final RestClient purgeClient;
+    private final Map<CatalogList, Supplier<List<?>>> sources = new EnumMap<>(CatalogList.class);
+    private final Map<CatalogList, Snapshot> snapshots = new EnumMap<>(CatalogList.class);
+
+    public CatalogSnapshotPublisher(
+            ObjectMapper objectMapper,
+            EventService eventService,
+            TrendingEventService trendingEventService,
+            OrganizerService organizerService,
+            @Value("${application.catalog-snapshot.purge-url:}") String purgeUrl) {
+        this.objectMapper = objectMapper;
+        this.purgeClient = purgeUrl.isBlank() ? null : RestClient.builder().baseUrl(purgeUrl).build();
+        sources.put(CatalogList.UPCOMING, eventService::getUpcomingEvents);
+        sources.put(CatalogList.FEATURED, eventService::getFeaturedEvents);
+        sources.put(CatalogList.TRENDING, trendingEventService::getTrendingEvents);
+        sources.put(CatalogList.ORGANIZERS, organizerService::getAllOrganizers);
+    }
+
+    /**
+     * Current snapshot of a list, rendered on the spot if no refresh has run yet
+     */
+    public Snapshot get(CatalogList list) {
+        synchronized (snapshots) {
+            var snapshot = snapshots.get(list);
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        return publish(list);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Re-render every list and publish the ones whose content changed
+     */
+    @Scheduled(fixedDelayString = "${application.catalog-snapshot.refresh-interval:PT15S}",
+            initialDelayString = "${application.catalog-snapshot.refresh-interval:PT15S}")
+    public void refresh() {
+        for (var list : CatalogList.values()) {
+            try {
+                publish(list);
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh catalog snapshot {}, keeping the current one: {}", list, e.getMessage());
+            }
+        }
+    }
+
+    // Helper methods
+    private Snapshot publish(CatalogList list) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(sources.get(list).get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog snapshot " + list, e);
+        }
+        var etag = "W/\"" + hash(json) + "\"";
+
+        Snapshot published;
+        synchronized (snapshots) {
+            var previous = snapshots.get(list);
+            if (previous != null && previous.etag().equals(etag)) {
+                return previous;
+            }
+            published = new Snapshot(json, gzip(json), etag, System.currentTimeMillis());
+            snapshots.put(list, published);
+            if (previous == null) {
+                return published;
+            }
+        }
+        log.debug("Catalog snapshot {} changed: {} bytes, {} gzipped", list, json.length, published.gzip().length);
+        purge(list);
+        return published;
+    }
+
+    private void purge(CatalogList list) {
+        if (purgeClient == null) {
+            return;
+        }
+        for (var path : list.paths) {
+            try {
+                purgeClient.method(HttpMethod.valueOf("PURGE")).uri(path).retrieve().toBodilessEntity();
+            } catch (RuntimeException e) {
+                log.warn("Could not purge {} from the proxy cache: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        var out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (var gzip = new GZIPOutputStream(out) {
+            {
+                // Compressed once per change and served many times: spend the CPU here
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.predictifylabs.backend.application.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Watermark for incremental reloads of rows stamped with updated_at.
+ * The update trigger stamps a row with its writer's transaction start time, so a write that
+ * commits after a refresh can carry a timestamp older than that refresh. Each refresh
+ * therefore re-reads an overlap window before the newest timestamp seen, and the version of
+ * every applied row is kept, so rows re-read unchanged (or older than what was applied) are
+ * skipped. Not thread-safe; callers guard it with the lock of their index.
+ */
+final class ChangeWatermark {
+
+    /**
+     * Version of a deleted row, newer than anything a stale read can return
+     */
+    private static final Timestamp DELETED = new Timestamp(Long.MAX_VALUE);
+
+    private final long overlapMillis;
+    private final Map<UUID, Timestamp> versions = new HashMap<>();
+    private Timestamp newestSeen;
+
+    ChangeWatermark(Duration overlap) {
+        this.overlapMillis = overlap.toMillis();
+    }
+
+    /**
+     * Whether nothing was loaded yet, i.e. the next refresh has to be a full reload
+     */
+    boolean isEmpty() {
+        return newestSeen == null;
+    }
+
+    /**
+     * Lower bound for the next incremental query: the newest change seen minus the overlap
+     */
+    Timestamp since() {
+        return new Timestamp(newestSeen.getTime() - overlapMillis);
+    }
+
+    /**
+     * Start over for a full reload; floor is the database time read before the reload query
+     */
+    void reset(Timestamp floor) {
+        versions.clear();
+        newestSeen = floor;
+    }
+
+    /**
+     * Start a full reconciliation without dropping versions applied concurrently, so a stale
+     * full read cannot overwrite them; versions of rows no longer present are dropped
+     */
+    void rebase(Timestamp floor, Set<UUID> present) {
+        versions.keySet().retainAll(present);
+        if (newestSeen == null || floor.after(newestSeen)) {
+            newestSeen = floor;
+        }
+    }
+
+    /**
+     * Record a row version, returning false when the same or a newer version was already applied
+     */
+    boolean advance(UUID id, Timestamp changedAt) {
+        if (changedAt == null) {
+            return true;
+        }
+        if (newestSeen == null || changedAt.after(newestSeen)) {
+            newestSeen = changedAt;
+        }
+        var applied = versions.get(id);
+        if (applied != null && !changedAt.after(applied)) {
+            return false;
+        }
+        versions.put(id, changedAt);
+        return true;
+    }
+
+    /**
+     * Record a row version from a full load or a direct re-read, returning false only when a
+     * newer version was already applied; unlike {@link #advance}, the same version applies again
+     */
+    boolean reapply(UUID id, Timestamp changedAt) {
+        var applied = versions.get(id);
+        if (applied != null && changedAt != null && changedAt.before(applied)) {
+            return false;
+        }
+        advance(id, changedAt);
+        return true;
+    }
+
+    /**
+     * Keep a deleted row from being re-applied by a read that started before the delete
+     */
+    void markDeleted(UUID id) {
+        versions.put(id, DELETED);
+    }
+}
@@ -0,0 +1,618 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.CheckInOutcome;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.BulkCheckInResultDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInResultDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInScanDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInStatsDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRegistrationRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRepository;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus.LocalCache;
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor;
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor.RequestClass;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Event-day ticket check-in.
+ * The ticket codes of an event are preloaded into an in-memory index, so invalid, unknown,
+ * cancelled and locally repeated scans are answered with a hash lookup and no database
+ * round trip. A first scan claims the ticket with a compare-and-set and then with a
+ * conditional UPDATE; the rows the UPDATE returns decide the outcome, so a ticket scanned at
+ * doors served by different instances is accepted only once. Attendee counts are
+ * recounted in the background, once per event and flush interval.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class CheckInService {
+
+    /**
+     * Conditional claim of a batch of registrations; the VALUES list holds one
+     * "(?::uuid, ?::timestamptz)" row per scan and the claimed rows come back with their stored time
+     */
+    private static final String MARK_ATTENDED_SQL = """
+            UPDATE event_registrations r SET attended = TRUE, attended_at = c.scanned_at, status = 'confirmed', updated_at = NOW()
+            FROM (VALUES %s) AS c(id, scanned_at)
+            WHERE r.id = c.id AND r.attended IS NOT TRUE AND r.status <> 'cancelled'
+            RETURNING r.id, r.attended_at
+            """;
+    private static final String MARK_ATTENDED_ROW = "(?::uuid, ?::timestamptz)";
+
+    /**
+     * Current state of a registration whose claim updated no row
+     */
+    private static final String CLAIM_STATE_SQL = """
+            SELECT status, attended, attended_at FROM event_registrations WHERE id = ?
+            """;
+
+    /**
+     * Recount instead of incrementing, so the result is the same whether or not
+     * the update_event_registration_count trigger is installed
+     */
+    private static final String RECOUNT_ATTENDEES_SQL = """
+            UPDATE events SET attendees_count = (
+                SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND attended = TRUE),
+                updated_at = NOW()
+            WHERE id = ?
+            """;
+
+    /**
+     * Cancellations are published as "eventId/ticketCode", so every instance flips its entry
+     */
+    private static final String TICKET_NAMESPACE = "check_in_tickets";
+    private static final int MAX_UNKNOWN_CODES = 10_000;
+
+    private final EventRegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+    private final PredictionRefreshScheduler predictionRefreshScheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final long idleTimeoutMillis;
+    private final long unknownCodeTtlMillis;
+
+    private final Map<UUID, TicketIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Events with check-ins whose attendee count has not been recounted yet
+     */
+    private final Set<UUID> recountPending = ConcurrentHashMap.newKeySet();
+
+    public CheckInService(
+            EventRegistrationRepository registrationRepository,
+            EventRepository eventRepository,
+            PredictionRefreshScheduler predictionRefreshScheduler,
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationBus cacheInvalidationBus,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.check-in.flush-batch-size:500}") int flushBatchSize,
+            @Value("${application.check-in.idle-timeout:PT6H}") Duration idleTimeout,
+            @Value("${application.check-in.unknown-code-ttl:PT30S}") Duration unknownCodeTtl) {
+        this.registrationRepository = registrationRepository;
+        this.eventRepository = eventRepository;
+        this.predictionRefreshScheduler = predictionRefreshScheduler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushBatchSize = flushBatchSize;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.unknownCodeTtlMillis = unknownCodeTtl.toMillis();
+        // A lost notification only delays the cancellation flag, the claim UPDATE still rejects
+        cacheInvalidationBus.register(TICKET_NAMESPACE, LocalCache.of(this::applyCancellation, indexes::clear));
+    }
+
+    /**
+     * Load (or reload) the ticket index of an event before doors open
+     */
+    public CheckInStatsDTO openCheckIn(UUID eventId, String callerEmail, boolean isAdmin) {
+        var index = loadIndex(eventId, callerEmail, isAdmin);
+        indexes.put(eventId, index);
+        log.info("Check-in index loaded for event {}: {} tickets, {} already checked in",
+                eventId, index.tickets.size(), index.checkedIn.get());
+        return index.stats();
+    }
+
+    /**
+     * Get the check-in progress of an event
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CheckInStatsDTO getStats(UUID eventId, String callerEmail, boolean isAdmin) {
+        var index = indexFor(eventId, callerEmail, isAdmin);
+        return index.stats();
+    }
+
+    /**
+     * Validate a single scan at the door.
+     * Runs without a surrounding transaction: only a first scan of a ticket writes,
+     * in its own short transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CheckInResultDTO scan(UUID eventId, String ticketCode, String callerEmail, boolean isAdmin) {
+        var index = indexFor(eventId, callerEmail, isAdmin);
+        var scan = screen(index, ticketCode, OffsetDateTime.now());
+        if (scan.result == null) {
+            claim(index, List.of(scan));
+        }
+        return scan.result;
+    }
+
+    /**
+     * Apply scans recorded by an offline scanner.
+     * Scans are replayed in scan order, so the earliest scan of a ticket wins.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCheckInResultDTO syncScans(UUID eventId, List<CheckInScanDTO> scans, String callerEmail, boolean isAdmin) {
+        var index = indexFor(eventId, callerEmail, isAdmin);
+        var now = OffsetDateTime.now();
+        var ordered = scans.stream()
+                .sorted(Comparator.comparing(scan -> scan.scannedAt() != null ? scan.scannedAt() : now))
+                .toList();
+
+        // Screen in scan order, so a later scan of the same ticket sees the earlier claim
+        List<Scan> screened = new ArrayList<>(ordered.size());
+        List<Scan> claims = new ArrayList<>();
+        for (var scan : ordered) {
+            var scannedAt = scan.scannedAt() != null && scan.scannedAt().isBefore(now) ? scan.scannedAt() : now;
+            var screenedScan = screen(index, scan.ticketCode(), scannedAt);
+            screened.add(screenedScan);
+            if (screenedScan.result == null) {
+                claims.add(screenedScan);
+            }
+        }
+        for (int from = 0; from < claims.size(); from += flushBatchSize) {
+            claim(index, claims.subList(from, Math.min(from + flushBatchSize, claims.size())));
+        }
+
+        List<CheckInResultDTO> results = new ArrayList<>(screened.size());
+        int accepted = 0;
+        int duplicates = 0;
+        for (var scan : screened) {
+            var result = scan.result;
+            switch (result.outcome()) {
+                case ACCEPTED -> accepted++;
+                case DUPLICATE -> duplicates++;
+                default -> {}
+            }
+            results.add(result);
+        }
+        log.info("Offline sync for event {}: {} scans, {} accepted, {} duplicates",
+                eventId, ordered.size(), accepted, duplicates);
+
+        return BulkCheckInResultDTO.builder()
+                .accepted(accepted)
+                .duplicates(duplicates)
+                .rejected(results.size() - accepted - duplicates)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Keep a loaded index in sync when attendance is marked outside of the scanner flow.
+     * Inside a transaction the index is only updated after commit.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void markCheckedIn(UUID eventId, String ticketCode, OffsetDateTime attendedAt) {
+        if (ticketCode == null) {
+            return;
+        }
+        afterCommit(() -> {
+            var index = indexes.get(eventId);
+            if (index == null) {
+                return;
+            }
+            var ticket = index.tickets.get(normalize(ticketCode));
+            if (ticket != null && ticket.tryCheckIn(attendedAt)) {
+                index.checkedIn.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Flag a cancelled ticket in the indexes of every instance once the transaction commits
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void markCancelled(UUID eventId, String ticketCode) {
+        if (ticketCode != null) {
+            cacheInvalidationBus.publish(TICKET_NAMESPACE, eventId + "/" + normalize(ticketCode));
+        }
+    }
+
+    /**
+     * Recount the attendees of events with new check-ins, one transaction per event, in the
+     * governor's flush lane so recounts never wait behind batch jobs
+     */
+    @Scheduled(fixedDelayString = "${application.check-in.flush-interval:PT2S}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushPending() {
+        DbConcurrencyGovernor.runAs(RequestClass.FLUSH, this::recountAttendees);
+    }
+
+    /**
+     * Drop indexes of events that are no longer being scanned
+     */
+    @Scheduled(fixedDelayString = "PT10M")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictIdleIndexes() {
+        long now = System.currentTimeMillis();
+        indexes.entrySet().removeIf(entry -> now - entry.getValue().lastAccess >= idleTimeoutMillis);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    // Helper methods
+
+    private void recountAttendees() {
+        for (var eventId : List.copyOf(recountPending)) {
+            recountPending.remove(eventId);
+            var index = indexes.get(eventId);
+            int flushed = index != null ? index.unflushed.get() : 0;
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> jdbcTemplate.update(RECOUNT_ATTENDEES_SQL, eventId, eventId));
+            } catch (RuntimeException e) {
+                // Keep the event pending, it is retried on the next run
+                log.error("Failed to recount attendees of event {}, will retry", eventId, e);
+                recountPending.add(eventId);
+                return;
+            }
+            if (index != null) {
+                index.unflushed.addAndGet(-flushed);
+            }
+            predictionRefreshScheduler.markDirty(eventId);
+        }
+    }
+
+    /**
+     * Answer a scan from the index where possible; a scan left without a result has
+     * claimed its ticket locally and still needs the database claim
+     */
+    private Scan screen(TicketIndex index, String rawCode, OffsetDateTime scannedAt) {
+        var code = normalize(rawCode);
+        if (!TicketCodeGenerator.isValid(code) && !TicketCodeGenerator.isLegacy(code)) {
+            // Typo or foreign code, rejected offline
+            return new Scan(code, null, scannedAt, result(code, CheckInOutcome.INVALID, null, null));
+        }
+        var ticket = index.tickets.get(code);
+        if (ticket == null) {
+            // Registered after the index was loaded
+            ticket = lookupTicket(index, code);
+            if (ticket == null) {
+                return new Scan(code, null, scannedAt, result(code, CheckInOutcome.UNKNOWN, null, null));
+            }
+        }
+        if (ticket.cancelled) {
+            return new Scan(code, ticket, scannedAt, result(code, CheckInOutcome.CANCELLED, ticket, null));
+        }
+        if (!ticket.tryCheckIn(scannedAt)) {
+            return new Scan(code, ticket, scannedAt, result(code, CheckInOutcome.DUPLICATE, ticket, ticket.checkedInAt()));
+        }
+        return new Scan(code, ticket, scannedAt, null);
+    }
+
+    /**
+     * Claim locally claimed tickets in the database with one conditional UPDATE.
+     * A claim that updates no row lost to a scan on another instance or to a cancellation;
+     * on failure the local claims are released so the scanner can retry. The check-in time
+     * kept in the index is the one the UPDATE stored, returned by the statement itself.
+     */
+    private void claim(TicketIndex index, List<Scan> scans) {
+        Object[][] states = new Object[scans.size()][];
+        Map<UUID, OffsetDateTime> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> {
+                Object[] args = new Object[scans.size() * 2];
+                for (int i = 0; i < scans.size(); i++) {
+                    args[2 * i] = scans.get(i).ticket.registrationId;
+                    args[2 * i + 1] = scans.get(i).scannedAt;
+                }
+                Map<UUID, OffsetDateTime> rows = new HashMap<>();
+                jdbcTemplate.query(MARK_ATTENDED_SQL.formatted(String.join(", ",
+                                Collections.nCopies(scans.size(), MARK_ATTENDED_ROW))),
+                        rs -> {
+                            rows.put(rs.getObject(1, UUID.class), rs.getObject(2, OffsetDateTime.class));
+                        }, args);
+                for (int i = 0; i < scans.size(); i++) {
+                    if (!rows.containsKey(scans.get(i).ticket.registrationId)) {
+                        states[i] = jdbcTemplate.query(CLAIM_STATE_SQL, rs -> rs.next()
+                                ? new Object[]{rs.getString(1), rs.getBoolean(2), rs.getObject(3, OffsetDateTime.class)}
+                                : null, scans.get(i).ticket.registrationId);
+                    }
+                }
+                return rows;
+            });
+        } catch (RuntimeException e) {
+            scans.forEach(scan -> scan.ticket.release());
+            throw e;
+        }
+
+        int accepted = 0;
+        for (int i = 0; i < scans.size(); i++) {
+            var scan = scans.get(i);
+            var state = states[i];
+            var attendedAt = claimed.get(scan.ticket.registrationId);
+            if (attendedAt != null) {
+                accepted++;
+                scan.ticket.checkedIn(attendedAt);
+                index.checkedIn.incrementAndGet();
+                scan.result = result(scan.code, CheckInOutcome.ACCEPTED, scan.ticket, attendedAt);
+            } else if (state != null && Boolean.TRUE.equals(state[1])) {
+                // Checked in at another door; the local claim stands for later scans
+                scan.ticket.checkedIn((OffsetDateTime) state[2]);
+                index.checkedIn.incrementAndGet();
+                scan.result = result(scan.code, CheckInOutcome.DUPLICATE, scan.ticket, scan.ticket.checkedInAt());
+            } else if (state != null && "cancelled".equals(state[0])) {
+                scan.ticket.release();
+                scan.ticket.cancelled = true;
+                scan.result = result(scan.code, CheckInOutcome.CANCELLED, scan.ticket, null);
+            } else {
+                index.tickets.remove(scan.code, scan.ticket);
+                scan.result = result(scan.code, CheckInOutcome.UNKNOWN, null, null);
+            }
+        }
+        if (accepted > 0) {
+            index.unflushed.addAndGet(accepted);
+            recountPending.add(index.eventId);
+        }
+    }
+
+    private Ticket lookupTicket(TicketIndex index, String code) {
+        long now = System.currentTimeMillis();
+        var unknownUntil = index.unknownCodes.get(code);
+        if (unknownUntil != null && unknownUntil > now) {
+            return null;
+        }
+        var rows = registrationRepository.findCheckInRowByTicketCode(index.eventId, code);
+        if (rows.isEmpty()) {
+            if (index.unknownCodes.size() >= MAX_UNKNOWN_CODES) {
+                index.unknownCodes.values().removeIf(until -> until <= now);
+                if (index.unknownCodes.size() >= MAX_UNKNOWN_CODES) {
+                    index.unknownCodes.clear();
+                }
+            }
+            index.unknownCodes.put(code, now + unknownCodeTtlMillis);
+            return null;
+        }
+        index.unknownCodes.remove(code);
+        var ticket = Ticket.of(rows.get(0));
+        var existing = index.tickets.putIfAbsent(code, ticket);
+        if (existing != null) {
+            return existing;
+        }
+        if (ticket.isCheckedIn()) {
+            index.checkedIn.incrementAndGet();
+        }
+        return ticket;
+    }
+
+    /**
+     * Apply a published cancellation "eventId/ticketCode" to the local index
+     */
+    private void applyCancellation(String id) {
+        int separator = id.indexOf('/');
+        var index = indexes.get(UUID.fromString(id.substring(0, separator)));
+        if (index == null) {
+            return;
+        }
+        var ticket = index.tickets.get(id.substring(separator + 1));
+        if (ticket != null) {
+            ticket.cancelled = true;
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Get the loaded index of an event, loading it on first use. The load runs outside the
+     * map, so it never holds a map bin while it queries; of two concurrent loads the first
+     * one stored wins.
+     */
+    private TicketIndex indexFor(UUID eventId, String callerEmail, boolean isAdmin) {
+        var index = indexes.get(eventId);
+        if (index == null) {
+            var loaded = loadIndex(eventId, callerEmail, isAdmin);
+            var existing = indexes.putIfAbsent(eventId, loaded);
+            index = existing != null ? existing : loaded;
+        }
+        index.authorize(callerEmail, isAdmin);
+        index.lastAccess = System.currentTimeMillis();
+        return index;
+    }
+
+    private TicketIndex loadIndex(UUID eventId, String callerEmail, boolean isAdmin) {
+        var ownerEmail = eventRepository.findOrganizerEmail(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+        var index = new TicketIndex(eventId, ownerEmail);
+        // Authorize before loading, so foreign events never get an index
+        index.authorize(callerEmail, isAdmin);
+
+        var rows = registrationRepository.findCheckInRowsByEventId(eventId);
+        for (Object[] row : rows) {
+            var ticket = Ticket.of(row);
+            index.tickets.put(normalize((String) row[1]), ticket);
+            if (ticket.isCheckedIn()) {
+                index.checkedIn.incrementAndGet();
+            }
+        }
+        return index;
+    }
+
+    private static String normalize(String ticketCode) {
+        return TicketCodeGenerator.normalize(ticketCode);
+    }
+
+    private static CheckInResultDTO result(String code, CheckInOutcome outcome, Ticket ticket, OffsetDateTime checkedInAt) {
+        return CheckInResultDTO.builder()
+                .ticketCode(code)
+                .outcome(outcome)
+                .registrationId(ticket != null ? ticket.registrationId : null)
+                .attendeeName(ticket != null ? ticket.attendeeName : null)
+                .checkedInAt(checkedInAt)
+                .build();
+    }
+
+    /**
+     * A scan on its way through screening and claiming; result stays null until decided
+     */
+    private static final class Scan {
+
+        private final String code;
+        private final Ticket ticket;
+        private final OffsetDateTime scannedAt;
+        private CheckInResultDTO result;
+
+        Scan(String code, Ticket ticket, OffsetDateTime scannedAt, CheckInResultDTO result) {
+            this.code = code;
+            this.ticket = ticket;
+            this.scannedAt = scannedAt;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Tickets of a single event, keyed by normalized ticket code
+     */
+    private final class TicketIndex {
+
+        private final UUID eventId;
+        private final String ownerEmail;
+        private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+        /**
+         * Checksum-valid codes not found in the database -> time until which they are not looked up again
+         */
+        private final Map<String, Long> unknownCodes = new ConcurrentHashMap<>();
+        private final AtomicInteger checkedIn = new AtomicInteger();
+        /**
+         * Check-ins accepted on this instance and not yet included in a recount
+         */
+        private final AtomicInteger unflushed = new AtomicInteger();
+        private final OffsetDateTime loadedAt = OffsetDateTime.now();
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        TicketIndex(UUID eventId, String ownerEmail) {
+            this.eventId = eventId;
+            this.ownerEmail = ownerEmail;
+        }
+
+        void authorize(String callerEmail, boolean isAdmin) {
+            if (!isAdmin && !ownerEmail.equalsIgnoreCase(callerEmail)) {
+                throw new AccessDeniedException("You are not authorized to check in attendees for this event");
+            }
+        }
+
+        CheckInStatsDTO stats() {
+            return CheckInStatsDTO.builder()
+                    .eventId(eventId)
+                    .tickets(tickets.size())
+                    .checkedIn(checkedIn.get())
+                    .pendingFlush(unflushed.get())
+                    .loadedAt(loadedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * Single ticket; the check-in is claimed with a CAS on its check-in reference, so a
+     * concurrent scan that loses the claim always sees the winner's time
+     */
+    private static final class Ticket {
+
+        private static final AtomicReferenceFieldUpdater<Ticket, CheckIn> CHECK_IN =
+                AtomicReferenceFieldUpdater.newUpdater(Ticket.class, CheckIn.class, "checkIn");
+
+        private final UUID registrationId;
+        private final String attendeeName;
+        private volatile boolean cancelled;
+        private volatile CheckIn checkIn;
+
+        private Ticket(UUID registrationId, String attendeeName, boolean cancelled, boolean attended,
+                OffsetDateTime attendedAt) {
+            this.registrationId = registrationId;
+            this.attendeeName = attendeeName;
+            this.cancelled = cancelled;
+            this.checkIn = attended ? new CheckIn(attendedAt) : null;
+        }
+
+        /**
+         * Build from a check-in row: id, ticketCode, status, attended, attendedAt, user name
+         */
+        static Ticket of(Object[] row) {
+            return new Ticket(
+                    (UUID) row[0],
+                    (String) row[5],
+                    "cancelled".equals(row[2]),
+                    Boolean.TRUE.equals(row[3]),
+                    (OffsetDateTime) row[4]);
+        }
+
+        boolean isCheckedIn() {
+            return checkIn != null;
+        }
+
+        OffsetDateTime checkedInAt() {
+            var current = checkIn;
+            return current != null ? current.at : null;
+        }
+
+        boolean tryCheckIn(OffsetDateTime at) {
+            return CHECK_IN.compareAndSet(this, null, new CheckIn(at));
+        }
+
+        /**
+         * Replace the local claim with the time stored in the database
+         */
+        void checkedIn(OffsetDateTime at) {
+            checkIn = new CheckIn(at);
+        }
+
+        void release() {
+            checkIn = null;
+        }
+    }
+
+    /**
+     * Check-in time of a ticket; null only for rows marked attended without a time
+     */
+    private record CheckIn(OffsetDateTime at) {}
+}
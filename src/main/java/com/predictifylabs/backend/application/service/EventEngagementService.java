@@ -0,0 +1,199 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.EngagementType;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.EngagementStateDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventInterestedRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.SavedEventRepository;
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor;
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor.RequestClass;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saved and interested events.
+ * Updates write the saved_events/event_interested rows in the request with idempotent
+ * statements, so an accepted update survives a crash and the last update of a user wins
+ * whichever instance served it. Only the interested_count recount of the touched events
+ * is left to a background flush, so toggles on a popular event do not contend on its row.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class EventEngagementService {
+
+    private static final String INSERT_SAVED_SQL = """
+            INSERT INTO saved_events (user_id, event_id, created_at)
+            SELECT ?, id, NOW() FROM events WHERE id = ?
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_SAVED_SQL = "DELETE FROM saved_events WHERE user_id = ? AND event_id = ?";
+
+    private static final String INSERT_INTERESTED_SQL = """
+            INSERT INTO event_interested (user_id, event_id, created_at)
+            SELECT ?, id, NOW() FROM events WHERE id = ?
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_INTERESTED_SQL = "DELETE FROM event_interested WHERE user_id = ? AND event_id = ?";
+
+    /**
+     * Recount instead of incrementing, so the result is the same whether or not
+     * the update_event_interest_count trigger is installed
+     */
+    private static final String RECOUNT_INTERESTED_SQL = """
+            UPDATE events SET interested_count = (SELECT COUNT(*) FROM event_interested WHERE event_id = ?)
+            WHERE id = ?
+            """;
+
+    private final SavedEventRepository savedEventRepository;
+    private final EventInterestedRepository eventInterestedRepository;
+    private final UserDashboardService userDashboardService;
+    private final PredictionRefreshScheduler predictionRefreshScheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPendingRecounts;
+
+    /**
+     * Events whose interested_count is not recounted yet
+     */
+    private final Set<UUID> recountPending = ConcurrentHashMap.newKeySet();
+
+    public EventEngagementService(
+            SavedEventRepository savedEventRepository,
+            EventInterestedRepository eventInterestedRepository,
+            UserDashboardService userDashboardService,
+            PredictionRefreshScheduler predictionRefreshScheduler,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.engagement.max-pending-recounts:10000}") int maxPendingRecounts) {
+        this.savedEventRepository = savedEventRepository;
+        this.eventInterestedRepository = eventInterestedRepository;
+        this.userDashboardService = userDashboardService;
+        this.predictionRefreshScheduler = predictionRefreshScheduler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPendingRecounts = maxPendingRecounts;
+    }
+
+    /**
+     * Set or clear the saved/interested flag on a list of events.
+     * Idempotent; unknown event ids are ignored.
+     */
+    @Transactional
+    public void update(UUID userId, EngagementType type, List<UUID> eventIds, boolean active) {
+        boolean saved = type == EngagementType.SAVED;
+        String sql = saved
+                ? (active ? INSERT_SAVED_SQL : DELETE_SAVED_SQL)
+                : (active ? INSERT_INTERESTED_SQL : DELETE_INTERESTED_SQL);
+        var ids = new ArrayList<>(new LinkedHashSet<>(eventIds));
+        int[][] counts = jdbcTemplate.batchUpdate(sql, ids, ids.size(), (ps, eventId) -> {
+            ps.setObject(1, userId);
+            ps.setObject(2, eventId);
+        });
+
+        userDashboardService.invalidateUser(userId);
+        if (!saved) {
+            var changed = changedIds(ids, counts);
+            if (recountPending.size() + changed.size() > maxPendingRecounts) {
+                // The flush is falling behind (e.g. failing); recount here rather than queue without bound
+                changed.forEach(eventId -> jdbcTemplate.update(RECOUNT_INTERESTED_SQL, eventId, eventId));
+                afterCommit(() -> changed.forEach(predictionRefreshScheduler::markDirty));
+            } else {
+                afterCommit(() -> recountPending.addAll(changed));
+            }
+        }
+    }
+
+    /**
+     * Saved and interested events of a user
+     */
+    public EngagementStateDTO getState(UUID userId) {
+        return EngagementStateDTO.builder()
+                .saved(new HashSet<>(savedEventRepository.findEventIdsByUserId(userId)))
+                .interested(new HashSet<>(eventInterestedRepository.findEventIdsByUserId(userId)))
+                .build();
+    }
+
+    /**
+     * Recount the interested_count of the events touched since the last run, in the
+     * governor's flush lane so it never waits behind batch jobs
+     */
+    @Scheduled(fixedDelayString = "${application.engagement.flush-interval:PT2S}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushPending() {
+        DbConcurrencyGovernor.runAs(RequestClass.FLUSH, this::recountInterested);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    // Helper methods
+
+    private void recountInterested() {
+        for (var eventId : List.copyOf(recountPending)) {
+            recountPending.remove(eventId);
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> jdbcTemplate.update(RECOUNT_INTERESTED_SQL, eventId, eventId));
+            } catch (RuntimeException e) {
+                // Keep the event pending, it is retried on the next run
+                log.error("Failed to recount interested users of event {}, will retry", eventId, e);
+                recountPending.add(eventId);
+                return;
+            }
+            predictionRefreshScheduler.markDirty(eventId);
+        }
+    }
+
+    /**
+     * Ids of the events whose row actually changed
+     */
+    private static Set<UUID> changedIds(List<UUID> ids, int[][] counts) {
+        Set<UUID> changed = new HashSet<>();
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                // Rewritten batched inserts report SUCCESS_NO_INFO (-2) instead of row counts
+                if (count != 0) {
+                    changed.add(ids.get(i));
+                }
+                i++;
+            }
+        }
+        return changed;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
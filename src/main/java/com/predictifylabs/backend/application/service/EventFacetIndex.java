@@ -0,0 +1,482 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import com.predictifylabs.backend.domain.model.EventType;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventBrowseDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventSummaryDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.FacetCountDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.TagDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over upcoming published events.
+ * Every indexed event gets a small integer ordinal; each facet value (tag, category,
+ * type, city) keeps a bitmap of the ordinals having it. Filtering is a bitmap AND and
+ * each facet count is the cardinality of an AND, so browse pages never run GROUP BYs.
+ * Events are re-indexed after commit when changed through the API, and a periodic
+ * refresh picks up changes made elsewhere (see {@link ChangeWatermark}). Rows are read
+ * outside the write lock, so each event keeps the version it was applied at and an
+ * older row never replaces a newer one.
+ */
+@Service
+@Slf4j
+public class EventFacetIndex {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FACET_VALUES = 50;
+
+    private static final String EVENTS_SQL = """
+            SELECT e.id, e.title, e.slug, e.image_url, e.category, e.type, e.status, e.start_date, e.start_time, l.city,
+                (SELECT array_agg(t.slug ORDER BY t.slug) FROM event_tags et JOIN tags t ON t.id = et.tag_id
+                    WHERE et.event_id = e.id) AS tag_slugs,
+                (SELECT array_agg(t.name ORDER BY t.slug) FROM event_tags et JOIN tags t ON t.id = et.tag_id
+                    WHERE et.event_id = e.id) AS tag_names,
+                GREATEST(e.updated_at, l.updated_at,
+                    (SELECT MAX(et.created_at) FROM event_tags et WHERE et.event_id = e.id)) AS changed_at
+            FROM events e
+            LEFT JOIN event_locations l ON l.event_id = e.id
+            """;
+
+    private static final String FULL_SQL = EVENTS_SQL + " WHERE e.start_date >= CURRENT_DATE";
+
+    private static final String CHANGED_SQL = EVENTS_SQL + """
+             WHERE e.updated_at > ? OR l.updated_at > ?
+                OR EXISTS (SELECT 1 FROM event_tags et WHERE et.event_id = e.id AND et.created_at > ?)
+            """;
+
+    private static final String BY_IDS_SQL = EVENTS_SQL + " WHERE e.id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long fullReloadMillis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final List<IndexedEvent> events = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Facet> facets = new LinkedHashMap<>();
+
+    /**
+     * Guarded by the write lock
+     */
+    private final ChangeWatermark watermark;
+    private long lastFullReload;
+
+    public EventFacetIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.facets.full-reload-interval:PT6H}") Duration fullReloadInterval,
+            @Value("${application.facets.refresh-overlap:PT5M}") Duration refreshOverlap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullReloadMillis = fullReloadInterval.toMillis();
+        this.watermark = new ChangeWatermark(refreshOverlap);
+        for (var name : List.of("tags", "category", "type", "city")) {
+            facets.put(name, new Facet());
+        }
+    }
+
+    private record IndexedEvent(
+            UUID id, String title, String slug, String imageUrl, EventCategory category, EventType type,
+            String city, List<String> tagSlugs, LocalDate startDate, LocalTime startTime) {
+
+        /**
+         * Facet values of the event, keyed like {@link #facets}
+         */
+        Map<String, List<String>> facetValues() {
+            return Map.of(
+                    "tags", tagSlugs,
+                    "category", List.of(category.name()),
+                    "type", List.of(type.name()),
+                    "city", city != null && !city.isBlank() ? List.of(cityKey(city)) : List.of());
+        }
+    }
+
+    private record Row(boolean indexable, Timestamp changedAt, IndexedEvent event, List<String> tagNames) {}
+
+    /**
+     * Bitmaps and display labels of one facet
+     */
+    private static final class Facet {
+        final Map<String, BitSet> bitmaps = new HashMap<>();
+        final Map<String, String> labels = new HashMap<>();
+    }
+
+    /**
+     * Filter upcoming events by facets (all given values must match) and count the remaining facet values
+     */
+    public EventBrowseDTO browse(Set<String> tags, EventCategory category, EventType type, String city, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var today = LocalDate.now();
+
+        lock.readLock().lock();
+        try {
+            var matches = (BitSet) live.clone();
+            for (var tag : tags) {
+                and(matches, "tags", tag.trim().toLowerCase(Locale.ROOT));
+            }
+            if (category != null) and(matches, "category", category.name());
+            if (type != null) and(matches, "type", type.name());
+            if (city != null && !city.isBlank()) and(matches, "city", cityKey(city));
+
+            List<IndexedEvent> matched = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                var event = events.get(i);
+                if (event.startDate().isBefore(today)) {
+                    // Started since the last refresh
+                    matches.clear(i);
+                } else {
+                    matched.add(event);
+                }
+            }
+            matched.sort(Comparator.comparing(IndexedEvent::startDate)
+                    .thenComparing(IndexedEvent::startTime, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(IndexedEvent::id));
+
+            Map<String, List<FacetCountDTO>> counts = new LinkedHashMap<>();
+            facets.forEach((name, facet) -> counts.put(name, count(facet, matches)));
+
+            int from = Math.min(page * size, matched.size());
+            var items = matched.subList(from, Math.min(from + size, matched.size())).stream()
+                    .map(EventFacetIndex::toSummary)
+                    .toList();
+            return EventBrowseDTO.builder()
+                    .total(matched.size())
+                    .page(page)
+                    .size(items.size())
+                    .items(items)
+                    .facets(counts)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tags used by upcoming events, most used first
+     */
+    public List<TagDTO> getTags() {
+        lock.readLock().lock();
+        try {
+            var facet = facets.get("tags");
+            return facet.bitmaps.entrySet().stream()
+                    .map(entry -> TagDTO.builder()
+                            .slug(entry.getKey())
+                            .name(facet.labels.getOrDefault(entry.getKey(), entry.getKey()))
+                            .upcomingCount(entry.getValue().cardinality())
+                            .build())
+                    .sorted(Comparator.comparing(TagDTO::upcomingCount).reversed().thenComparing(TagDTO::slug))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-index an event once the current transaction commits (create, update, publish, cancel, delete)
+     */
+    public void reindex(UUID eventId) {
+        reindex(List.of(eventId));
+    }
+
+    /**
+     * Re-index several events with one query once the current transaction commits, or right
+     * away outside a transaction (imports)
+     */
+    public void reindex(Collection<UUID> eventIds) {
+        var ids = List.copyOf(eventIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexNow(ids);
+                }
+            });
+        } else {
+            reindexNow(ids);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Apply events changed since the previous run; periodically reconcile with a full load
+     */
+    @Scheduled(fixedDelayString = "${application.facets.refresh-interval:PT1M}",
+            initialDelayString = "${application.facets.refresh-interval:PT1M}")
+    public void refresh() {
+        refreshLock.lock();
+        long startedAt = System.nanoTime();
+        try {
+            boolean full;
+            Timestamp since = null;
+            lock.readLock().lock();
+            try {
+                full = lastFullReload == 0 || System.currentTimeMillis() - lastFullReload >= fullReloadMillis;
+                if (!full) {
+                    since = watermark.since();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            var now = full ? jdbcTemplate.queryForObject("SELECT NOW()", Timestamp.class) : null;
+            List<Row> rows = full
+                    ? jdbcTemplate.query(FULL_SQL, (rs, rowNum) -> readRow(rs))
+                    : jdbcTemplate.query(CHANGED_SQL, (rs, rowNum) -> readRow(rs), since, since, since);
+
+            var today = LocalDate.now();
+            int applied = 0;
+            lock.writeLock().lock();
+            try {
+                Set<UUID> seen = new HashSet<>();
+                for (var row : rows) {
+                    var id = row.event().id();
+                    seen.add(id);
+                    // A full load also re-applies unchanged rows, tag renames carry no version
+                    if (full ? watermark.reapply(id, row.changedAt()) : watermark.advance(id, row.changedAt())) {
+                        apply(row, today);
+                        applied++;
+                    }
+                }
+                if (full) {
+                    for (var id : List.copyOf(ordinals.keySet())) {
+                        if (!seen.contains(id)) {
+                            remove(id);
+                        }
+                    }
+                    watermark.rebase(now, seen);
+                    lastFullReload = System.currentTimeMillis();
+                }
+                for (var id : List.copyOf(ordinals.keySet())) {
+                    if (events.get(ordinals.get(id)).startDate().isBefore(today)) {
+                        remove(id);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (full || applied > 0) {
+                log.info("Event facet index {}: {} events, {} tags, {} rows applied in {} ms",
+                        full ? "reloaded" : "refreshed", ordinals.size(), facets.get("tags").bitmaps.size(),
+                        applied, (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh event facet index, keeping the current one: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Helper methods
+    private void reindexNow(List<UUID> eventIds) {
+        try {
+            Map<UUID, Row> rows = new HashMap<>();
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(BY_IDS_SQL);
+                ps.setArray(1, con.createArrayOf("uuid", eventIds.toArray()));
+                return ps;
+            }, rs -> {
+                var row = readRow(rs);
+                rows.put(row.event().id(), row);
+            });
+            var today = LocalDate.now();
+            lock.writeLock().lock();
+            try {
+                for (var eventId : eventIds) {
+                    var row = rows.get(eventId);
+                    if (row == null) {
+                        watermark.markDeleted(eventId);
+                        remove(eventId);
+                    } else if (watermark.reapply(eventId, row.changedAt())) {
+                        apply(row, today);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not re-index {} events, the next refresh will: {}", eventIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Must hold the write lock
+     */
+    private void apply(Row row, LocalDate today) {
+        var event = row.event();
+        remove(event.id());
+        if (!row.indexable() || event.startDate().isBefore(today)) {
+            return;
+        }
+
+        int ordinal = freeOrdinals.isEmpty() ? events.size() : freeOrdinals.pop();
+        if (ordinal == events.size()) {
+            events.add(event);
+        } else {
+            events.set(ordinal, event);
+        }
+        ordinals.put(event.id(), ordinal);
+        live.set(ordinal);
+        event.facetValues().forEach((name, values) -> {
+            var facet = facets.get(name);
+            for (var value : values) {
+                facet.bitmaps.computeIfAbsent(value, key -> new BitSet()).set(ordinal);
+            }
+        });
+        var facetLabels = facets.get("tags").labels;
+        for (int i = 0; i < event.tagSlugs().size(); i++) {
+            facetLabels.put(event.tagSlugs().get(i), row.tagNames().get(i));
+        }
+        if (event.city() != null && !event.city().isBlank()) {
+            facets.get("city").labels.putIfAbsent(cityKey(event.city()), event.city().trim());
+        }
+        facets.get("category").labels.putIfAbsent(event.category().name(), event.category().name());
+        facets.get("type").labels.putIfAbsent(event.type().name(), event.type().name());
+    }
+
+    /**
+     * Must hold the write lock
+     */
+    private void remove(UUID eventId) {
+        var ordinal = ordinals.remove(eventId);
+        if (ordinal == null) {
+            return;
+        }
+        var event = events.get(ordinal);
+        live.clear(ordinal);
+        event.facetValues().forEach((name, values) -> {
+            var facet = facets.get(name);
+            for (var value : values) {
+                var bitmap = facet.bitmaps.get(value);
+                if (bitmap != null) {
+                    bitmap.clear(ordinal);
+                    if (bitmap.isEmpty()) {
+                        facet.bitmaps.remove(value);
+                        facet.labels.remove(value);
+                    }
+                }
+            }
+        });
+        events.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    private void and(BitSet matches, String facetName, String value) {
+        var bitmap = facets.get(facetName).bitmaps.get(value);
+        if (bitmap == null) {
+            matches.clear();
+        } else {
+            matches.and(bitmap);
+        }
+    }
+
+    private static List<FacetCountDTO> count(Facet facet, BitSet matches) {
+        List<FacetCountDTO> counts = new ArrayList<>();
+        var scratch = new BitSet();
+        for (var entry : facet.bitmaps.entrySet()) {
+            if (!entry.getValue().intersects(matches)) {
+                continue;
+            }
+            scratch.clear();
+            scratch.or(entry.getValue());
+            scratch.and(matches);
+            counts.add(FacetCountDTO.builder()
+                    .value(entry.getKey())
+                    .label(facet.labels.getOrDefault(entry.getKey(), entry.getKey()))
+                    .count(scratch.cardinality())
+                    .build());
+        }
+        counts.sort(Comparator.comparing(FacetCountDTO::count).reversed().thenComparing(FacetCountDTO::value));
+        return counts.size() > MAX_FACET_VALUES ? List.copyOf(counts.subList(0, MAX_FACET_VALUES)) : counts;
+    }
+
+    private Row readRow(ResultSet rs) throws SQLException {
+        var tagSlugs = strings(rs.getArray("tag_slugs"));
+        var tagNames = strings(rs.getArray("tag_names"));
+        var event = new IndexedEvent(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("image_url"),
+                EventCategory.valueOf(rs.getString("category").toUpperCase(Locale.ROOT)),
+                EventType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+                rs.getString("city"),
+                tagSlugs,
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("start_time", LocalTime.class));
+        return new Row("PUBLISHED".equalsIgnoreCase(rs.getString("status")), rs.getTimestamp("changed_at"), event, tagNames);
+    }
+
+    private static List<String> strings(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return List.of((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    private static String cityKey(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static EventSummaryDTO toSummary(IndexedEvent event) {
+        return EventSummaryDTO.builder()
+                .id(event.id())
+                .title(event.title())
+                .slug(event.slug())
+                .imageUrl(event.imageUrl())
+                .category(event.category())
+                .type(event.type())
+                .city(event.city())
+                .tags(event.tagSlugs())
+                .startDate(event.startDate())
+                .startTime(event.startTime())
+                .build();
+    }
+}
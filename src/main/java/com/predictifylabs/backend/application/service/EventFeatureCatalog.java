@@ -0,0 +1,378 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory catalog of upcoming published events as sparse feature vectors.
+ * Terms (category, tags, city, country, type) are mapped to stable integer dimensions;
+ * each event keeps its vector in primitive arrays, and the snapshot holds an inverted
+ * index (dimension -> events) so scoring only touches events sharing a term with the user.
+ * Refreshes only reload events changed since the previous run (see {@link ChangeWatermark});
+ * a periodic full reload also picks up deleted events and removed tags, and rebuilds the
+ * vocabulary so terms no event uses anymore give their dimensions back.
+ */
+@Service
+@Slf4j
+public class EventFeatureCatalog {
+
+    private static final String EVENTS_SQL = """
+            SELECT e.id, e.title, e.slug, e.image_url, e.category, e.type, e.status, e.start_date,
+                e.registered_count, e.interested_count, e.is_trending, l.city, l.country,
+                (SELECT string_agg(t.slug, ',') FROM event_tags et JOIN tags t ON t.id = et.tag_id
+                    WHERE et.event_id = e.id) AS tag_slugs,
+                GREATEST(e.updated_at, (SELECT MAX(et.created_at) FROM event_tags et WHERE et.event_id = e.id))
+                    AS changed_at
+            FROM events e
+            LEFT JOIN event_locations l ON l.event_id = e.id
+            """;
+
+    private static final String FULL_SQL = EVENTS_SQL + " WHERE e.start_date >= CURRENT_DATE";
+
+    private static final String CHANGED_SQL = EVENTS_SQL + """
+             WHERE e.updated_at > ?
+                OR EXISTS (SELECT 1 FROM event_tags et WHERE et.event_id = e.id AND et.created_at > ?)
+            """;
+
+    static final float CATEGORY_WEIGHT = 1.0f;
+    static final float TAG_WEIGHT = 0.8f;
+    static final float CITY_WEIGHT = 0.6f;
+    static final float COUNTRY_WEIGHT = 0.3f;
+    static final float TYPE_WEIGHT = 0.2f;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long fullReloadMillis;
+
+    private final Map<UUID, EventFeatures> features = new HashMap<>();
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * Term -> dimension, dense from 0; each snapshot keeps its own copy
+     */
+    private Map<String, Integer> vocabulary = new HashMap<>();
+
+    /**
+     * Guards features and vocabulary; not synchronized, so a refresh blocked on JDBC does not pin a virtual thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ChangeWatermark watermark;
+    private long lastFullReload;
+
+    public EventFeatureCatalog(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.recommendations.full-reload-interval:PT6H}") Duration fullReloadInterval,
+            @Value("${application.recommendations.refresh-overlap:PT5M}") Duration refreshOverlap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullReloadMillis = fullReloadInterval.toMillis();
+        this.watermark = new ChangeWatermark(refreshOverlap);
+    }
+
+    /**
+     * One event as a unit-length sparse vector, dimensions sorted ascending
+     */
+    public record EventFeatures(
+            UUID id, String title, String slug, String imageUrl, EventCategory category,
+            String city, LocalDate startDate, float popularity, int[] dimensions, float[] weights) {}
+
+    /**
+     * Immutable scoring view, swapped atomically on refresh
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), new EventFeatures[0], new int[0][], new float[0][], new int[0]);
+
+        private final Map<String, Integer> vocabulary;
+        private final EventFeatures[] events;
+        private final int[][] postings;
+        private final float[][] postingWeights;
+        private final int[] byPopularity;
+        private final Map<UUID, Integer> positions;
+
+        private Snapshot(Map<String, Integer> vocabulary, EventFeatures[] events, int[][] postings,
+                float[][] postingWeights, int[] byPopularity) {
+            this.vocabulary = vocabulary;
+            this.events = events;
+            this.postings = postings;
+            this.postingWeights = postingWeights;
+            this.byPopularity = byPopularity;
+            this.positions = new HashMap<>(events.length * 2);
+            for (int i = 0; i < events.length; i++) {
+                positions.put(events[i].id(), i);
+            }
+        }
+
+        public int size() {
+            return events.length;
+        }
+
+        /**
+         * Dimension of a term in this snapshot, or -1 when no event uses it
+         */
+        public int dimension(String term) {
+            return vocabulary.getOrDefault(term, -1);
+        }
+
+        public EventFeatures event(int position) {
+            return events[position];
+        }
+
+        public Integer position(UUID eventId) {
+            return positions.get(eventId);
+        }
+
+        /**
+         * Positions of the events having the dimension, or an empty array
+         */
+        public int[] postings(int dimension) {
+            return dimension < postings.length ? postings[dimension] : new int[0];
+        }
+
+        /**
+         * Event weights matching {@link #postings(int)}
+         */
+        public float[] postingWeights(int dimension) {
+            return dimension < postingWeights.length ? postingWeights[dimension] : new float[0];
+        }
+
+        /**
+         * All positions ordered by popularity, most popular first
+         */
+        public int[] byPopularity() {
+            return byPopularity;
+        }
+    }
+
+    /**
+     * Get the snapshot currently used for scoring
+     */
+    public Snapshot current() {
+        return current.get();
+    }
+
+    static String categoryTerm(String category) {
+        return "c:" + category.trim().toUpperCase(Locale.ROOT);
+    }
+
+    static String tagTerm(String slug) {
+        return "t:" + slug.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+    }
+
+    static String placeTerm(String place) {
+        return "l:" + place.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Reload changed events and rebuild the snapshot when anything changed
+     */
+    @Scheduled(fixedDelayString = "${application.recommendations.refresh-interval:PT1M}",
+            initialDelayString = "${application.recommendations.refresh-interval:PT1M}")
+    public void refresh() {
+        lock.lock();
+        long startedAt = System.nanoTime();
+        try {
+            boolean full = watermark.isEmpty() || System.currentTimeMillis() - lastFullReload >= fullReloadMillis;
+            List<Row> rows = new ArrayList<>();
+            // A full reload maps terms into a fresh vocabulary, kept only once the load succeeded
+            Map<String, Integer> terms = full ? new HashMap<>() : vocabulary;
+            if (full) {
+                var now = jdbcTemplate.queryForObject("SELECT NOW()", Timestamp.class);
+                jdbcTemplate.query(FULL_SQL, rs -> {
+                    rows.add(readRow(rs, terms));
+                });
+                watermark.reset(now);
+            } else {
+                var since = watermark.since();
+                jdbcTemplate.query(CHANGED_SQL, rs -> {
+                    rows.add(readRow(rs, terms));
+                }, since, since);
+            }
+
+            var today = LocalDate.now();
+            boolean changed = full;
+            if (full) {
+                features.clear();
+                vocabulary = terms;
+                lastFullReload = System.currentTimeMillis();
+            }
+            int applied = 0;
+            for (var row : rows) {
+                var event = row.event();
+                if (!watermark.advance(event.id(), row.changedAt())) {
+                    // Re-read from the overlap window, already applied
+                    continue;
+                }
+                applied++;
+                if (row.published() && !event.startDate().isBefore(today)) {
+                    features.put(event.id(), event);
+                } else {
+                    features.remove(event.id());
+                }
+                changed = true;
+            }
+            changed |= features.values().removeIf(event -> event.startDate().isBefore(today));
+
+            if (changed) {
+                current.set(build());
+                log.info("Event feature catalog {}: {} events, {} changed, {} terms in {} ms",
+                        full ? "reloaded" : "refreshed", features.size(), applied, vocabulary.size(),
+                        (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh event feature catalog, keeping the current snapshot: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop a deleted event once the current transaction commits, instead of waiting for the next full reload
+     */
+    public void remove(UUID eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(eventId);
+                }
+            });
+        } else {
+            removeNow(eventId);
+        }
+    }
+
+    // Helper methods
+    private void removeNow(UUID eventId) {
+        lock.lock();
+        try {
+            watermark.markDeleted(eventId);
+            if (features.remove(eventId) != null) {
+                current.set(build());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    private Row readRow(ResultSet rs, Map<String, Integer> terms) throws SQLException {
+        Map<Integer, Float> vector = new HashMap<>();
+        var category = rs.getString("category");
+        add(terms, vector, categoryTerm(category), CATEGORY_WEIGHT);
+        add(terms, vector, "y:" + rs.getString("type").toUpperCase(Locale.ROOT), TYPE_WEIGHT);
+        var tags = rs.getString("tag_slugs");
+        if (tags != null) {
+            for (var slug : tags.split(",")) {
+                add(terms, vector, tagTerm(slug), TAG_WEIGHT);
+            }
+        }
+        var city = rs.getString("city");
+        if (city != null && !city.isBlank()) {
+            add(terms, vector, placeTerm(city), CITY_WEIGHT);
+        }
+        var country = rs.getString("country");
+        if (country != null && !country.isBlank()) {
+            add(terms, vector, placeTerm(country), COUNTRY_WEIGHT);
+        }
+
+        int[] dimensions = vector.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] weights = new float[dimensions.length];
+        double norm = 0;
+        for (int i = 0; i < dimensions.length; i++) {
+            weights[i] = vector.get(dimensions[i]);
+            norm += weights[i] * weights[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] *= scale;
+        }
+
+        float popularity = (float) Math.log1p(rs.getInt("registered_count") + 0.5 * rs.getInt("interested_count"))
+                + (rs.getBoolean("is_trending") ? 1 : 0);
+        var event = new EventFeatures(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("image_url"),
+                EventCategory.valueOf(category.toUpperCase(Locale.ROOT)),
+                city,
+                rs.getObject("start_date", LocalDate.class),
+                popularity,
+                dimensions,
+                weights);
+        return new Row("PUBLISHED".equalsIgnoreCase(rs.getString("status")), rs.getTimestamp("changed_at"), event);
+    }
+
+    private static void add(Map<String, Integer> terms, Map<Integer, Float> vector, String term, float weight) {
+        var dimension = terms.get(term);
+        if (dimension == null) {
+            dimension = terms.size();
+            terms.put(term, dimension);
+        }
+        vector.merge(dimension, weight, Math::max);
+    }
+
+    private Snapshot build() {
+        var events = features.values().toArray(new EventFeatures[0]);
+        int dimensions = vocabulary.size();
+
+        int[] counts = new int[dimensions];
+        for (var event : events) {
+            for (int dimension : event.dimensions()) {
+                counts[dimension]++;
+            }
+        }
+        int[][] postings = new int[dimensions][];
+        float[][] postingWeights = new float[dimensions][];
+        for (int d = 0; d < dimensions; d++) {
+            postings[d] = new int[counts[d]];
+            postingWeights[d] = new float[counts[d]];
+        }
+        int[] fill = new int[dimensions];
+        for (int i = 0; i < events.length; i++) {
+            var event = events[i];
+            for (int j = 0; j < event.dimensions().length; j++) {
+                int d = event.dimensions()[j];
+                postings[d][fill[d]] = i;
+                postingWeights[d][fill[d]] = event.weights()[j];
+                fill[d]++;
+            }
+        }
+
+        int[] byPopularity = IntStream.range(0, events.length).boxed()
+                .sorted((a, b) -> Float.compare(events[b].popularity(), events[a].popularity()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new Snapshot(Map.copyOf(vocabulary), events, postings, postingWeights, byPopularity);
+    }
+
+    private record Row(boolean published, Timestamp changedAt, EventFeatures event) {}
+}
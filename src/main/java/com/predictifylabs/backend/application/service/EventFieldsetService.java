@@ -0,0 +1,157 @@
+package com.predictifylabs.backend.application.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sparse fieldsets for event listings ({@code ?fields=id,title,startDate,location.city}).
+ * The JPQL select list is built from the requested fields only, so unrequested columns
+ * (e.g. the description TEXT) are not read and the organizer and location are only
+ * joined when one of their fields is asked for. The id is always returned.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EventFieldsetService {
+
+    private static final List<String> EVENT_FIELDS = List.of(
+            "id", "title", "slug", "description", "shortDescription", "startDate", "endDate", "startTime",
+            "endTime", "timezone", "category", "type", "status", "imageUrl", "capacity", "interestedCount",
+            "registeredCount", "attendeesCount", "viewsCount", "price", "currency", "isFree", "isFeatured",
+            "isTrending", "isNew", "publishedAt", "createdAt");
+
+    private static final List<String> ORGANIZER_FIELDS = List.of(
+            "id", "displayName", "avatar", "isVerified", "eventsCount", "rating");
+
+    private static final List<String> LOCATION_FIELDS = List.of(
+            "type", "venue", "address", "city", "country", "latitude", "longitude", "virtualLink", "virtualPlatform");
+
+    /**
+     * Response field name -> JPQL path; e is the event, o the organizer and l the location
+     */
+    private static final Map<String, String> PATHS = new LinkedHashMap<>();
+
+    static {
+        EVENT_FIELDS.forEach(field -> PATHS.put(field, "e." + field));
+        ORGANIZER_FIELDS.forEach(field -> PATHS.put("organizer." + field, "o." + field));
+        LOCATION_FIELDS.forEach(field -> PATHS.put("location." + field, "l." + field));
+    }
+
+    private final EntityManager entityManager;
+
+    public List<Map<String, Object>> getUpcomingEvents(String fields) {
+        return query(parse(fields), "e.status = 'PUBLISHED' AND e.startDate >= :today ORDER BY e.startDate ASC",
+                Map.of("today", LocalDate.now()));
+    }
+
+    public List<Map<String, Object>> getFeaturedEvents(String fields) {
+        return query(parse(fields), "e.status = 'PUBLISHED' AND e.isFeatured = true ORDER BY e.startDate ASC",
+                Map.of());
+    }
+
+    public List<Map<String, Object>> searchEvents(String keyword, String fields) {
+        return query(parse(fields),
+                "e.status = 'PUBLISHED' AND LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))",
+                Map.of("keyword", keyword));
+    }
+
+    public List<Map<String, Object>> getEventsByOrganizer(UUID organizerId, String fields) {
+        return query(parse(fields), "e.organizer.id = :organizerId ORDER BY e.createdAt DESC",
+                Map.of("organizerId", organizerId));
+    }
+
+    /**
+     * Events by id, in the order of the given ids (missing ones are skipped)
+     */
+    public List<Map<String, Object>> getEventsByIds(List<UUID> ids, String fields) {
+        var selected = parse(fields);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Map<String, Object>> byId = new HashMap<>();
+        for (var row : query(selected, "e.id IN :ids", Map.of("ids", ids))) {
+            byId.put(row.get("id"), row);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // Helper methods
+
+    /**
+     * Validate and expand the requested fields; "organizer" and "location" select all their fields
+     */
+    private List<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields must not be empty");
+        }
+        var selected = new LinkedHashSet<String>();
+        selected.add("id");
+        for (var raw : fields.split(",")) {
+            var field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (field.equals("organizer") || field.equals("location")) {
+                PATHS.keySet().stream().filter(name -> name.startsWith(field + ".")).forEach(selected::add);
+            } else if (PATHS.containsKey(field)) {
+                selected.add(field);
+            } else {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        return List.copyOf(selected);
+    }
+
+    private List<Map<String, Object>> query(List<String> fields, String whereAndOrder, Map<String, Object> parameters) {
+        var jpql = new StringBuilder("SELECT ");
+        jpql.append(String.join(", ", fields.stream().map(PATHS::get).toList()));
+        jpql.append(" FROM EventEntity e");
+        if (fields.stream().anyMatch(field -> field.startsWith("organizer."))) {
+            jpql.append(" JOIN e.organizer o");
+        }
+        if (fields.stream().anyMatch(field -> field.startsWith("location."))) {
+            jpql.append(" LEFT JOIN e.location l");
+        }
+        jpql.append(" WHERE ").append(whereAndOrder);
+
+        var query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (var tuple : query.getResultList()) {
+            rows.add(toRow(fields, tuple));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toRow(List<String> fields, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            var field = fields.get(i);
+            int dot = field.indexOf('.');
+            if (dot < 0) {
+                row.put(field, tuple.get(i));
+            } else {
+                var nested = (Map<String, Object>) row.computeIfAbsent(field.substring(0, dot), key -> new LinkedHashMap<>());
+                nested.put(field.substring(dot + 1), tuple.get(i));
+            }
+        }
+        // An event without a location gets "location": null, as in the full DTO
+        row.replaceAll((key, value) -> value instanceof Map<?, ?> nested
+                && nested.values().stream().allMatch(Objects::isNull) ? null : value);
+        return row;
+    }
+}
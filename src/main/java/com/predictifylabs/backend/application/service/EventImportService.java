@@ -0,0 +1,588 @@
+package com.predictifylabs.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.predictifylabs.backend.domain.model.EventStatus;
+import com.predictifylabs.backend.domain.model.LocationType;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.CreateEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventImportReportDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.OrganizerRepository;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import of events for organizers.
+ * Rows are parsed one at a time from NDJSON or CSV, validated, and inserted with
+ * JDBC batches (events and locations) in one transaction per batch, so memory use
+ * does not depend on the size of the upload. Invalid rows are reported, not fatal;
+ * a batch rejected by the database is retried row by row, so one bad row only fails itself.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class EventImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO events (id, organizer_id, title, slug, description, short_description,
+                start_date, end_date, start_time, end_time, timezone, category, type, status, image_url,
+                capacity, interested_count, registered_count, attendees_count, views_count,
+                price, currency, is_free, is_featured, is_trending, is_new, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, ?, ?, ?, FALSE, FALSE, TRUE, ?, ?)
+            """;
+
+    private static final String INSERT_LOCATION_SQL = """
+            INSERT INTO event_locations (id, event_id, type, address, city, country, venue,
+                latitude, longitude, virtual_link, virtual_platform, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * Recount instead of incrementing, so the result is the same whether or not
+     * the update_organizer_stats trigger is installed
+     */
+    private static final String RECOUNT_ORGANIZER_EVENTS_SQL = """
+            UPDATE organizers SET events_count = (SELECT COUNT(*) FROM events WHERE organizer_id = ?),
+                updated_at = NOW()
+            WHERE id = ?
+            """;
+
+    /**
+     * Flat CSV columns that belong to the nested location object
+     */
+    private static final Map<String, String> CSV_LOCATION_COLUMNS = Map.ofEntries(
+            Map.entry("locationtype", "type"),
+            Map.entry("venuename", "venueName"),
+            Map.entry("address", "address"),
+            Map.entry("city", "city"),
+            Map.entry("state", "state"),
+            Map.entry("country", "country"),
+            Map.entry("postalcode", "postalCode"),
+            Map.entry("latitude", "latitude"),
+            Map.entry("longitude", "longitude"),
+            Map.entry("virtualurl", "virtualUrl"),
+            Map.entry("virtualplatform", "virtualPlatform"),
+            Map.entry("instructions", "instructions"));
+
+    private static final Set<String> CSV_ENUM_COLUMNS = Set.of("category", "type", "locationtype");
+
+    private final OrganizerRepository organizerRepository;
+    private final EventFacetIndex eventFacetIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxRows;
+    private final int maxFieldLength;
+
+    public EventImportService(
+            OrganizerRepository organizerRepository,
+            EventFacetIndex eventFacetIndex,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${application.events.import.batch-size:500}") int batchSize,
+            @Value("${application.events.import.max-rows:50000}") int maxRows,
+            @Value("${application.events.import.max-field-length:65536}") int maxFieldLength) {
+        this.organizerRepository = organizerRepository;
+        this.eventFacetIndex = eventFacetIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * Supported upload formats
+     */
+    public enum ImportFormat {
+        NDJSON, CSV
+    }
+
+    /**
+     * Import events for the organizer profile of a user
+     *
+     * @param input  request body, read incrementally and never buffered as a whole
+     * @param format NDJSON (one CreateEventDTO per line) or CSV with a header row
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EventImportReportDTO importEvents(InputStream input, ImportFormat format, UUID userId) throws IOException {
+        var organizer = organizerRepository.findByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("User is not an organizer. Please create an organizer profile first."));
+
+        log.info("Starting {} event import for organizer {}", format, organizer.getId());
+        long startedAt = System.nanoTime();
+        var report = new ReportBuilder();
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+
+        try (var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            RowSource source = format == ImportFormat.CSV ? new CsvRowSource(reader, maxFieldLength) : new NdjsonRowSource(reader, maxFieldLength);
+            ImportRow row;
+            while ((row = source.next()) != null) {
+                if (report.totalRows >= maxRows) {
+                    report.fail(row, "Import is limited to " + maxRows + " rows per upload, remaining rows were not read");
+                    break;
+                }
+                report.totalRows++;
+
+                var error = row.parseError() != null ? row.parseError() : validate(row.dto());
+                if (error != null) {
+                    report.fail(row, error);
+                    continue;
+                }
+
+                batch.add(new PendingEvent(UUID.randomUUID(), row));
+                if (batch.size() >= batchSize) {
+                    flush(batch, organizer.getId(), report);
+                }
+            }
+        }
+        flush(batch, organizer.getId(), report);
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Event import for organizer {} finished in {} ms: {} imported, {} failed",
+                organizer.getId(), durationMs, report.imported, report.failed);
+        return report.build(format, durationMs);
+    }
+
+    // Helper methods
+    private void flush(List<PendingEvent> batch, UUID organizerId, ReportBuilder report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch, organizerId));
+            // Committed at this point, so the index never sees rows of a rolled back batch
+            eventFacetIndex.reindex(batch.stream().map(PendingEvent::id).toList());
+            report.imported += batch.size();
+        } catch (DataAccessException e) {
+            log.warn("Event import batch of {} rows failed, retrying row by row: {}", batch.size(),
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            for (var pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(pending), organizerId));
+                    eventFacetIndex.reindex(pending.id());
+                    report.imported++;
+                } catch (DataAccessException rowError) {
+                    report.fail(pending.row(), "Insert failed: " + NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private void insertBatch(List<PendingEvent> batch, UUID organizerId) {
+        var now = OffsetDateTime.now();
+        var withLocation = batch.stream().filter(pending -> pending.row().dto().location() != null).toList();
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, batch, batchSize, (ps, pending) -> {
+            var dto = pending.row().dto();
+            int i = 1;
+            ps.setObject(i++, pending.id());
+            ps.setObject(i++, organizerId);
+            ps.setString(i++, dto.title().trim());
+            ps.setString(i++, EventService.generateSlug(dto.title()));
+            ps.setString(i++, dto.description());
+            ps.setString(i++, dto.shortDescription());
+            ps.setObject(i++, dto.startDate());
+            ps.setObject(i++, dto.endDate());
+            ps.setObject(i++, dto.startTime());
+            ps.setObject(i++, dto.endTime());
+            ps.setString(i++, dto.timezone() != null ? dto.timezone() : "UTC");
+            ps.setObject(i++, dto.category().name(), Types.OTHER);
+            ps.setObject(i++, dto.type().name(), Types.OTHER);
+            ps.setObject(i++, EventStatus.DRAFT.name(), Types.OTHER);
+            ps.setString(i++, dto.imageUrl());
+            ps.setInt(i++, dto.capacity());
+            ps.setBigDecimal(i++, dto.price() != null ? dto.price() : BigDecimal.ZERO);
+            ps.setString(i++, dto.currency() != null ? dto.currency() : "USD");
+            ps.setBoolean(i++, dto.isFree() != null ? dto.isFree() : true);
+            ps.setObject(i++, now);
+            ps.setObject(i, now);
+        });
+
+        if (!withLocation.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LOCATION_SQL, withLocation, batchSize, (ps, pending) -> {
+                var location = pending.row().dto().location();
+                int i = 1;
+                ps.setObject(i++, UUID.randomUUID());
+                ps.setObject(i++, pending.id());
+                ps.setObject(i++, (location.type() != null ? location.type() : LocationType.PHYSICAL).name(), Types.OTHER);
+                ps.setString(i++, location.address());
+                ps.setString(i++, location.city());
+                ps.setString(i++, location.country());
+                ps.setString(i++, location.venueName());
+                ps.setBigDecimal(i++, location.latitude());
+                ps.setBigDecimal(i++, location.longitude());
+                ps.setString(i++, location.virtualUrl());
+                ps.setString(i++, location.virtualPlatform());
+                ps.setObject(i++, now);
+                ps.setObject(i, now);
+            });
+        }
+
+        // Counters are maintained once per batch instead of once per event
+        jdbcTemplate.update(RECOUNT_ORGANIZER_EVENTS_SQL, organizerId, organizerId);
+    }
+
+    /**
+     * Bean validation plus the checks enforced by the events table constraints
+     *
+     * @return the error message, or null if the row is valid
+     */
+    private String validate(CreateEventDTO dto) {
+        var violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (dto.title().trim().length() < 5) {
+            return "title: Title must be at least 5 characters";
+        }
+        if (dto.endDate() != null && dto.endDate().isBefore(dto.startDate())) {
+            return "endDate: End date must not be before the start date";
+        }
+        if (dto.endDate() == null && dto.endTime() != null && !dto.endTime().isAfter(dto.startTime())) {
+            return "endTime: End time must be after the start time";
+        }
+        if (dto.price() != null && dto.price().signum() < 0) {
+            return "price: Price must not be negative";
+        }
+        var location = dto.location();
+        if (location != null) {
+            if ((location.latitude() == null) != (location.longitude() == null)) {
+                return "location: Latitude and longitude must be provided together";
+            }
+            if (location.latitude() != null && (location.latitude().abs().compareTo(BigDecimal.valueOf(90)) > 0
+                    || location.longitude().abs().compareTo(BigDecimal.valueOf(180)) > 0)) {
+                return "location: Coordinates are out of range";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parsed row, or the reason it could not be parsed
+     */
+    private record ImportRow(long line, CreateEventDTO dto, String parseError) {
+    }
+
+    /**
+     * Valid row waiting for the next batch, with its pre-assigned event id
+     */
+    private record PendingEvent(UUID id, ImportRow row) {
+    }
+
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, blank lines are skipped. Lines are capped like CSV fields:
+     * a longer line is skipped without being buffered and reported as a failed row.
+     */
+    private class NdjsonRowSource implements RowSource {
+
+        private final Reader reader;
+        private final int maxLineLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean tooLong;
+        private long lineNumber;
+
+        NdjsonRowSource(Reader reader, int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            while ((line = readLine()) != null) {
+                lineNumber++;
+                if (tooLong) {
+                    return new ImportRow(lineNumber, null, "Line longer than " + maxLineLength + " characters");
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    var dto = objectMapper.readValue(line, CreateEventDTO.class);
+                    return dto != null
+                            ? new ImportRow(lineNumber, dto, null)
+                            : new ImportRow(lineNumber, null, "Expected a JSON object");
+                } catch (JsonProcessingException e) {
+                    return new ImportRow(lineNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Next line without its terminator, or null at the end; a line over the cap comes back
+         * empty with {@link #tooLong} set
+         */
+        private String readLine() throws IOException {
+            buffer.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                if (!tooLong && c != '\r') {
+                    if (buffer.length() == maxLineLength) {
+                        // Drop what was read and skip the rest of the line
+                        tooLong = true;
+                        buffer.setLength(0);
+                    } else {
+                        buffer.append((char) c);
+                    }
+                }
+                c = reader.read();
+            }
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row. Column names match the CreateEventDTO fields
+     * (case-insensitive) and location fields are flattened (venueName, city, latitude...)
+     */
+    private class CsvRowSource implements RowSource {
+
+        private final CsvTokenizer tokenizer;
+        private final List<String> header;
+        private boolean broken;
+
+        CsvRowSource(Reader reader, int maxFieldLength) throws IOException {
+            this.tokenizer = new CsvTokenizer(reader, maxFieldLength);
+            var columns = tokenizer.nextRecord();
+            if (columns == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            this.header = columns.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (broken) {
+                return null;
+            }
+            List<String> values;
+            do {
+                try {
+                    values = tokenizer.nextRecord();
+                } catch (IllegalArgumentException e) {
+                    // The record boundaries are lost, so nothing after this point can be trusted
+                    broken = true;
+                    return new ImportRow(tokenizer.recordLine(), null, e.getMessage() + ", remaining rows were not read");
+                }
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            long line = tokenizer.recordLine();
+            if (values.size() != header.size()) {
+                return new ImportRow(line, null,
+                        "Expected " + header.size() + " columns but found " + values.size());
+            }
+
+            Map<String, Object> event = new LinkedHashMap<>();
+            Map<String, Object> location = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i);
+                String value = values.get(i).trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                if (CSV_ENUM_COLUMNS.contains(column)) {
+                    value = value.toUpperCase(Locale.ROOT);
+                }
+                var locationField = CSV_LOCATION_COLUMNS.get(column);
+                if (locationField != null) {
+                    location.put(locationField, value);
+                } else {
+                    event.put(column, value);
+                }
+            }
+            if (!location.isEmpty()) {
+                event.put("location", location);
+            }
+
+            try {
+                return new ImportRow(line, toCreateEventDTO(event), null);
+            } catch (IllegalArgumentException e) {
+                return new ImportRow(line, null, "Invalid value: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+
+        private CreateEventDTO toCreateEventDTO(Map<String, Object> values) {
+            // Header names are lower-cased, so map them back to the record component names
+            Map<String, Object> named = new LinkedHashMap<>();
+            for (var component : CreateEventDTO.class.getRecordComponents()) {
+                var value = values.get(component.getName().toLowerCase(Locale.ROOT));
+                if (value != null) {
+                    named.put(component.getName(), value);
+                }
+            }
+            return objectMapper.convertValue(named, CreateEventDTO.class);
+        }
+    }
+
+    /**
+     * Minimal streaming CSV tokenizer: quoted fields, escaped quotes and embedded line breaks.
+     * Fields are capped, so an unbalanced quote cannot buffer the rest of the upload.
+     */
+    private static final class CsvTokenizer {
+
+        private final Reader reader;
+        private final int maxFieldLength;
+        private long line = 1;
+        private long recordLine;
+        private int pushback = -2;
+
+        CsvTokenizer(Reader reader, int maxFieldLength) {
+            this.reader = reader;
+            this.maxFieldLength = maxFieldLength;
+        }
+
+        long recordLine() {
+            return recordLine;
+        }
+
+        List<String> nextRecord() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            var field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (field.length() > maxFieldLength) {
+                    throw new IllegalArgumentException("Field longer than " + maxFieldLength
+                            + " characters in the record starting at line " + recordLine);
+                }
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field starting at line " + recordLine);
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') line++;
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') unread(next);
+                    }
+                    if (c != -1) line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushback != -2) {
+                int c = pushback;
+                pushback = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void unread(int c) {
+            pushback = c;
+        }
+    }
+
+    /**
+     * Mutable counters for the report, errors are capped to keep the response small
+     */
+    private static final class ReportBuilder {
+
+        private int totalRows;
+        private int imported;
+        private int failed;
+        private final List<EventImportReportDTO.RowError> errors = new ArrayList<>();
+
+        void fail(ImportRow row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(EventImportReportDTO.RowError.builder()
+                        .line(row.line())
+                        .title(row.dto() != null ? row.dto().title() : null)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        EventImportReportDTO build(ImportFormat format, long durationMs) {
+            return EventImportReportDTO.builder()
+                    .format(format.name())
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .failed(failed)
+                    .errorsTruncated(failed > errors.size())
+                    .errors(errors)
+                    .durationMs(durationMs)
+                    .build();
+        }
+    }
+}
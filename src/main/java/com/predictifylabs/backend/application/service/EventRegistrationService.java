@@ -1,16 +1,28 @@
 package com.predictifylabs.backend.application.service;
 
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.EventRegistrationDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.RegistrationListItemDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.RegistrationPageDTO;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventRegistrationEntity;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRegistrationRepository;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRepository;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,49 +35,53 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class EventRegistrationService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int TICKET_CODE_ATTEMPTS = 3;
+    private static final String TICKET_CODE_CONSTRAINT = "event_registrations_ticket_unique";
+
+    /**
+     * Registrations of an event in keyset order; filters are appended only when set, so
+     * every page is a range scan of idx_event_registrations_keyset (event_id, registered_at, id)
+     */
+    private static final String PAGE_SQL = """
+            SELECT r.id, u.id AS user_id, u.name AS user_name, u.email AS user_email, r.status, r.ticket_code,
+                r.attended, r.attended_at, r.registered_at
+            FROM event_registrations r
+            JOIN users u ON u.id = r.user_id
+            JOIN events e ON e.id = r.event_id
+            JOIN organizers o ON o.id = e.organizer_id
+            WHERE r.event_id = ?
+            """;
+
     private final EventRegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final PredictionRefreshScheduler predictionRefreshScheduler;
+    private final CheckInService checkInService;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final UserDashboardService userDashboardService;
+    private final RecommendationService recommendationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
 
     /**
-     * Register a user to an event
+     * Register a user to an event.
+     * A ticket code clash can only follow a lost node lease; the registration is then
+     * retried in a new transaction with a fresh code.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EventRegistrationDTO registerToEvent(UUID eventId, UUID userId) {
-        log.info("Registering user {} to event {}", userId, eventId);
-
-        // Check if already registered
-        if (registrationRepository.existsByEventIdAndUserId(eventId, userId)) {
-            throw new RuntimeException("User is already registered to this event");
-        }
-
-        var event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
-
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-
-        // Check capacity
-        if (event.getRegisteredCount() >= event.getCapacity()) {
-            throw new RuntimeException("Event is at full capacity");
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> register(eventId, userId));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= TICKET_CODE_ATTEMPTS || !isTicketCodeClash(e)) {
+                    throw e;
+                }
+                log.warn("Ticket code clash registering user {} to event {}, retrying", userId, eventId);
+            }
         }
-
-        var registration = EventRegistrationEntity.builder()
-                .event(event)
-                .user(user)
-                .status("registered")
-                .ticketCode(generateTicketCode())
-                .registeredAt(OffsetDateTime.now())
-                .build();
-
-        var saved = registrationRepository.save(registration);
-
-        // Update event registered count
-        event.setRegisteredCount(event.getRegisteredCount() + 1);
-        eventRepository.save(event);
-
-        log.info("User {} registered to event {} with ticket {}", userId, eventId, saved.getTicketCode());
-        return toDTO(saved);
     }
 
     /**
@@ -90,6 +106,10 @@ public class EventRegistrationService {
         var event = registration.getEvent();
         event.setRegisteredCount(Math.max(0, event.getRegisteredCount() - 1));
         eventRepository.save(event);
+        predictionRefreshScheduler.markDirty(eventId);
+        checkInService.markCancelled(eventId, registration.getTicketCode());
+        userDashboardService.invalidateUser(userId);
+        recommendationService.invalidateUser(userId);
 
         log.info("Registration cancelled for user {} from event {}", userId, eventId);
     }
@@ -128,6 +148,96 @@ public class EventRegistrationService {
                 .toList();
     }
 
+    /**
+     * Get a keyset-paginated page of the registrations of an event (organizer or admin only).
+     * Authorization is part of the page query; an empty page is double-checked to tell
+     * "not your event" apart from "no matching registrations".
+     */
+    public RegistrationPageDTO getEventRegistrationsPage(UUID eventId, UUID userId, boolean isAdmin,
+            String status, Boolean attended, OffsetDateTime from, OffsetDateTime to, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        OffsetDateTime afterAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                var parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                afterAt = OffsetDateTime.parse(parts[0]);
+                afterId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        var sql = new StringBuilder(PAGE_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(eventId);
+        if (!isAdmin) {
+            sql.append(" AND o.user_id = ?");
+            args.add(userId);
+        }
+        if (status != null) {
+            sql.append(" AND r.status = ?");
+            args.add(status);
+        }
+        if (attended != null) {
+            sql.append(" AND r.attended = ?");
+            args.add(attended);
+        }
+        if (from != null) {
+            sql.append(" AND r.registered_at >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND r.registered_at < ?");
+            args.add(to);
+        }
+        if (afterAt != null) {
+            // Row-value comparison, so the index seeks straight to the cursor; the first page has none
+            sql.append(" AND (r.registered_at, r.id) > (?, ?)");
+            args.add(afterAt);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY r.registered_at, r.id LIMIT ?");
+        args.add(size + 1);
+
+        List<RegistrationListItemDTO> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new RegistrationListItemDTO(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("user_name"),
+                rs.getString("user_email"),
+                rs.getString("status"),
+                rs.getString("ticket_code"),
+                (Boolean) rs.getObject("attended"),
+                rs.getObject("attended_at", OffsetDateTime.class),
+                rs.getObject("registered_at", OffsetDateTime.class)), args.toArray());
+
+        if (rows.isEmpty()) {
+            var organizerUserId = eventRepository.findOrganizerUserId(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+            if (!isAdmin && !organizerUserId.equals(userId)) {
+                throw new AccessDeniedException("You are not authorized to view the registrations of this event");
+            }
+        }
+
+        boolean hasMore = rows.size() > size;
+        var items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            var last = items.get(items.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.registeredAt() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return RegistrationPageDTO.builder()
+                .items(items)
+                .size(items.size())
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * Mark attendance for a registration
      */
@@ -148,14 +258,67 @@ public class EventRegistrationService {
         var event = registration.getEvent();
         event.setAttendeesCount(event.getAttendeesCount() + 1);
         eventRepository.save(event);
+        predictionRefreshScheduler.markDirty(eventId);
+        checkInService.markCheckedIn(eventId, saved.getTicketCode(), saved.getAttendedAt());
+        userDashboardService.invalidateUser(userId);
 
         log.info("Attendance marked for user {} at event {}", userId, eventId);
         return toDTO(saved);
     }
 
     // Helper methods
-    private String generateTicketCode() {
-        return "TKT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+
+    private EventRegistrationDTO register(UUID eventId, UUID userId) {
+        log.info("Registering user {} to event {}", userId, eventId);
+
+        // Check if already registered
+        if (registrationRepository.existsByEventIdAndUserId(eventId, userId)) {
+            throw new RuntimeException("User is already registered to this event");
+        }
+
+        var event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+
+        var user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        // Check capacity
+        if (event.getRegisteredCount() >= event.getCapacity()) {
+            throw new RuntimeException("Event is at full capacity");
+        }
+
+        var registration = EventRegistrationEntity.builder()
+                .event(event)
+                .user(user)
+                .status("registered")
+                .ticketCode(ticketCodeGenerator.next())
+                .registeredAt(OffsetDateTime.now())
+                .build();
+
+        // Flushed right away, so a ticket code clash surfaces here and can be retried
+        var saved = registrationRepository.saveAndFlush(registration);
+
+        // Update event registered count
+        event.setRegisteredCount(event.getRegisteredCount() + 1);
+        eventRepository.save(event);
+        predictionRefreshScheduler.markDirty(eventId);
+        userDashboardService.invalidateUser(userId);
+        recommendationService.invalidateUser(userId);
+
+        log.info("User {} registered to event {} with ticket {}", userId, eventId, saved.getTicketCode());
+        return toDTO(saved);
+    }
+
+    /**
+     * Whether the failed insert clashed on the ticket code, not on the (event, user) pair
+     */
+    private static boolean isTicketCodeClash(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return TICKET_CODE_CONSTRAINT.equals(violation.getConstraintName());
+            }
+        }
+        return false;
     }
 
     private EventRegistrationDTO toDTO(EventRegistrationEntity registration) {
@@ -1,5 +1,9 @@
 package com.predictifylabs.backend.application.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.predictifylabs.backend.domain.model.EventStatus;
 import com.predictifylabs.backend.domain.model.LocationType;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.*;
@@ -7,15 +11,23 @@ import com.predictifylabs.backend.infrastructure.adapters.output.persistence.ent
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventLocationEntity;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRepository;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.OrganizerRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Service for event management operations
@@ -26,8 +38,19 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class EventService {
 
+    /**
+     * Streamed entities between persistence context clears, the fetch size of the stream queries
+     */
+    private static final int CLEAR_EVERY = 200;
+
     private final EventRepository eventRepository;
     private final OrganizerRepository organizerRepository;
+    private final UserDashboardService userDashboardService;
+    private final EventFeatureCatalog eventFeatureCatalog;
+    private final NearbyEventIndex nearbyEventIndex;
+    private final EventFacetIndex eventFacetIndex;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     /**
      * Get all upcoming published events
@@ -53,17 +76,19 @@ public class EventService {
     }
 
     /**
-     * Get trending events
+     * Get events by id, in the order of the given ids (missing ones are skipped)
      */
-    public List<EventDTO> getTrendingEvents() {
-        return eventRepository.findTrendingEvents().stream().map(this::toDTO).toList();
+    public List<EventDTO> getEventsByIds(List<UUID> ids) {
+        Map<UUID, EventEntity> byId = new HashMap<>();
+        eventRepository.findAllById(ids).forEach(event -> byId.put(event.getId(), event));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).map(this::toDTO).toList();
     }
 
     /**
-     * Search events by keyword
+     * Write the events matching a keyword to the output stream as a JSON array
      */
-    public List<EventDTO> searchEvents(String keyword) {
-        return eventRepository.searchByKeyword(keyword).stream().map(this::toDTO).toList();
+    public void writeSearchResults(String keyword, OutputStream out) {
+        writeJsonArray(eventRepository.streamByKeyword(keyword), out);
     }
 
     /**
@@ -85,10 +110,10 @@ public class EventService {
     }
 
     /**
-     * Get events by organizer
+     * Write the events of an organizer to the output stream as a JSON array
      */
-    public List<EventDTO> getEventsByOrganizer(UUID organizerId) {
-        return eventRepository.findByOrganizer(organizerId).stream().map(this::toDTO).toList();
+    public void writeEventsByOrganizer(UUID organizerId, OutputStream out) {
+        writeJsonArray(eventRepository.streamByOrganizer(organizerId), out);
     }
 
     /**
@@ -142,6 +167,7 @@ public class EventService {
         // Update organizer event count
         organizer.setEventsCount(organizer.getEventsCount() + 1);
         organizerRepository.save(organizer);
+        eventFacetIndex.reindex(saved.getId());
 
         log.info("Event created with ID: {}", saved.getId());
         return toDTO(saved);
@@ -185,7 +211,6 @@ public class EventService {
         if (dto.isFree() != null) event.setIsFree(dto.isFree());
         if (dto.imageUrl() != null) event.setImageUrl(dto.imageUrl());
         if (dto.isFeatured() != null) event.setIsFeatured(dto.isFeatured());
-        if (dto.isTrending() != null) event.setIsTrending(dto.isTrending());
 
         // Update location if provided
         if (dto.location() != null) {
@@ -198,6 +223,8 @@ public class EventService {
         }
 
         var saved = eventRepository.save(event);
+        userDashboardService.invalidateEvent(eventId);
+        eventFacetIndex.reindex(eventId);
         log.info("Event updated: {}", saved.getId());
         return toDTO(saved);
     }
@@ -225,6 +252,10 @@ public class EventService {
         // Update organizer event count
         organizer.setEventsCount(Math.max(0, organizer.getEventsCount() - 1));
         organizerRepository.save(organizer);
+        userDashboardService.invalidateEvent(eventId);
+        eventFeatureCatalog.remove(eventId);
+        nearbyEventIndex.remove(eventId);
+        eventFacetIndex.reindex(eventId);
 
         log.info("Event deleted: {}", eventId);
     }
@@ -249,6 +280,8 @@ public class EventService {
         event.setIsNew(true);
 
         var saved = eventRepository.save(event);
+        userDashboardService.invalidateEvent(eventId);
+        eventFacetIndex.reindex(eventId);
         log.info("Event published: {}", saved.getId());
         return toDTO(saved);
     }
@@ -272,6 +305,8 @@ public class EventService {
         event.setCancelledAt(OffsetDateTime.now());
 
         var saved = eventRepository.save(event);
+        userDashboardService.invalidateEvent(eventId);
+        eventFacetIndex.reindex(eventId);
         log.info("Event cancelled: {}", saved.getId());
         return toDTO(saved);
     }
@@ -314,7 +349,7 @@ public class EventService {
         if (dto.virtualPlatform() != null) location.setVirtualPlatform(dto.virtualPlatform());
     }
 
-    private String generateSlug(String title) {
+    static String generateSlug(String title) {
         return title.toLowerCase()
                 .replaceAll("[^a-z0-9\\s-]", "")
                 .replaceAll("\\s+", "-")
@@ -322,6 +357,38 @@ public class EventService {
                 + "-" + UUID.randomUUID().toString().substring(0, 8);
     }
 
+    /**
+     * Serialize one entity at a time straight into the output: no DTO list is materialized,
+     * and the generator flushes only when its recycled buffer fills up. The persistence
+     * context is cleared every fetch, so it does not grow with the result.
+     * A failure after the first bytes cannot change the 200 any more; the array is left
+     * unterminated and the exception propagates, so the server aborts the connection and
+     * the client sees a broken response instead of a complete-looking one.
+     */
+    private void writeJsonArray(Stream<EventEntity> events, OutputStream out) {
+        var writer = objectMapper.writerFor(EventDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int written = 0;
+        try (events; var generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            var iterator = events.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, toDTO(iterator.next()));
+                if (++written % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            log.error("Event stream aborted after {} events: {}", written, e.getMessage());
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            log.error("Event stream aborted after {} events", written, e);
+            throw e;
+        }
+    }
+
     private EventDTO toDTO(EventEntity event) {
         OrganizerDTO organizerDTO = null;
         if (event.getOrganizer() != null) {
@@ -0,0 +1,109 @@
+package com.predictifylabs.backend.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Equal-angle grid over the globe used by {@link NearbyEventIndex}.
+ * The cell size is rounded so a whole number of cells spans the latitude and longitude
+ * ranges; longitude cells then wrap exactly at the antimeridian (-180 and 180 share a cell).
+ */
+final class GeoGrid {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    static final double KM_PER_DEGREE_LAT = 111.32;
+
+    /**
+     * Above this latitude a circle can span every meridian, so whole rings are covered
+     */
+    private static final double POLAR_LATITUDE = 89.9;
+
+    private final int latCells;
+    private final int lonCells;
+    private final double latDegrees;
+    private final double lonDegrees;
+
+    GeoGrid(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("Cell size must be greater than 0 and at most 90 degrees");
+        }
+        this.latCells = Math.max(1, (int) Math.round(180 / cellDegrees));
+        this.lonCells = Math.max(1, (int) Math.round(360 / cellDegrees));
+        this.latDegrees = 180.0 / latCells;
+        this.lonDegrees = 360.0 / lonCells;
+    }
+
+    int latCells() {
+        return latCells;
+    }
+
+    int lonCells() {
+        return lonCells;
+    }
+
+    /**
+     * Cell containing the point
+     */
+    long cellOf(double latitude, double longitude) {
+        return cell(latIndex(latitude), lonIndex(longitude));
+    }
+
+    /**
+     * Cells overlapping the bounding box of the circle, each listed once
+     */
+    List<Long> covering(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - dLat);
+        double maxLat = Math.min(90, latitude + dLat);
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double dLon = widestLat >= POLAR_LATITUDE ? 180 : dLat / Math.cos(Math.toRadians(widestLat));
+
+        int firstLon;
+        int lonSpan;
+        if (dLon >= 180) {
+            firstLon = 0;
+            lonSpan = lonCells;
+        } else {
+            int first = (int) Math.floor((longitude - dLon + 180) / lonDegrees);
+            int last = (int) Math.floor((longitude + dLon + 180) / lonDegrees);
+            firstLon = Math.floorMod(first, lonCells);
+            lonSpan = Math.min(last - first + 1, lonCells);
+        }
+
+        List<Long> covering = new ArrayList<>();
+        for (int latIdx = latIndex(minLat); latIdx <= latIndex(maxLat); latIdx++) {
+            for (int k = 0; k < lonSpan; k++) {
+                covering.add(cell(latIdx, (firstLon + k) % lonCells));
+            }
+        }
+        return covering;
+    }
+
+    /**
+     * Haversine great-circle distance
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Helper methods
+
+    private int latIndex(double latitude) {
+        return Math.min((int) Math.floor((latitude + 90) / latDegrees), latCells - 1);
+    }
+
+    /**
+     * Longitude cell, wrapping around the antimeridian
+     */
+    private int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / lonDegrees), lonCells);
+    }
+
+    private long cell(int latIdx, int lonIdx) {
+        return (long) latIdx * lonCells + lonIdx;
+    }
+}
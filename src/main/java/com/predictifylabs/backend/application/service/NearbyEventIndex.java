@@ -0,0 +1,302 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.NearbyEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory grid index of upcoming published events with coordinates.
+ * The globe is split into equal-angle cells; a radius query only visits the cells
+ * overlapping the bounding box of the circle, then checks the exact great-circle distance.
+ * Refreshes move only the events changed since the previous run (see {@link ChangeWatermark})
+ * between cells, so the index is never rebuilt from scratch while serving.
+ */
+@Service
+@Slf4j
+public class NearbyEventIndex {
+
+    public static final double MAX_RADIUS_KM = 200;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String EVENTS_SQL = """
+            SELECT e.id, e.title, e.slug, e.image_url, e.category, e.status, e.start_date, e.start_time,
+                l.venue, l.city, l.latitude, l.longitude, GREATEST(e.updated_at, l.updated_at) AS changed_at
+            FROM events e
+            JOIN event_locations l ON l.event_id = e.id
+            """;
+
+    private static final String FULL_SQL = EVENTS_SQL
+            + " WHERE e.start_date >= CURRENT_DATE AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL";
+
+    private static final String CHANGED_SQL = EVENTS_SQL + " WHERE e.updated_at > ? OR l.updated_at > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GeoGrid grid;
+    private final long fullReloadMillis;
+
+    private final Map<Long, Map<UUID, GeoEvent>> cells = new ConcurrentHashMap<>();
+    private final Map<UUID, GeoEvent> events = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes refreshes and removals; a lock rather than synchronized, so a refresh
+     * blocked on JDBC does not pin its carrier when running on a virtual thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ChangeWatermark watermark;
+    private long lastFullReload;
+
+    public NearbyEventIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.nearby.cell-size-degrees:0.1}") double cellDegrees,
+            @Value("${application.nearby.full-reload-interval:PT6H}") Duration fullReloadInterval,
+            @Value("${application.nearby.refresh-overlap:PT5M}") Duration refreshOverlap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.grid = new GeoGrid(cellDegrees);
+        this.fullReloadMillis = fullReloadInterval.toMillis();
+        this.watermark = new ChangeWatermark(refreshOverlap);
+    }
+
+    private record GeoEvent(
+            UUID id, String title, String slug, String imageUrl, EventCategory category,
+            LocalDate startDate, LocalTime startTime, String venue, String city,
+            double latitude, double longitude, long cell) {}
+
+    private record Row(boolean indexable, Timestamp changedAt, GeoEvent event) {}
+
+    private record Hit(GeoEvent event, double distanceKm) {}
+
+    /**
+     * Events within the radius starting in the date window, closest first
+     *
+     * @param from first start date (inclusive), today when null
+     * @param to   last start date (inclusive), unbounded when null
+     */
+    public List<NearbyEventDTO> findNearby(double latitude, double longitude, double radiusKm,
+            LocalDate from, LocalDate to, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most " + MAX_RADIUS_KM);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        var today = LocalDate.now();
+        var start = from == null || from.isBefore(today) ? today : from;
+        if (to != null && to.isBefore(start)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (long cell : grid.covering(latitude, longitude, radiusKm)) {
+            var members = cells.get(cell);
+            if (members == null) {
+                continue;
+            }
+            for (var event : members.values()) {
+                if (event.startDate().isBefore(start) || (to != null && event.startDate().isAfter(to))) {
+                    continue;
+                }
+                double distance = GeoGrid.distanceKm(latitude, longitude, event.latitude(), event.longitude());
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(event, distance));
+                }
+            }
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(Hit::distanceKm))
+                .limit(limit)
+                .map(hit -> toDTO(hit.event(), hit.distanceKm()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Apply events changed since the previous run; periodically reconcile with a full load
+     */
+    @Scheduled(fixedDelayString = "${application.nearby.refresh-interval:PT30S}",
+            initialDelayString = "${application.nearby.refresh-interval:PT30S}")
+    public void refresh() {
+        lock.lock();
+        long startedAt = System.nanoTime();
+        try {
+            boolean full = watermark.isEmpty() || System.currentTimeMillis() - lastFullReload >= fullReloadMillis;
+            List<Row> rows = new ArrayList<>();
+            if (full) {
+                var now = jdbcTemplate.queryForObject("SELECT NOW()", Timestamp.class);
+                jdbcTemplate.query(FULL_SQL, rs -> {
+                    rows.add(readRow(rs));
+                });
+                watermark.reset(now);
+            } else {
+                var since = watermark.since();
+                jdbcTemplate.query(CHANGED_SQL, rs -> {
+                    rows.add(readRow(rs));
+                }, since, since);
+            }
+
+            var today = LocalDate.now();
+            Set<UUID> seen = new HashSet<>();
+            int applied = 0;
+            for (var row : rows) {
+                var event = row.event();
+                seen.add(event.id());
+                if (!watermark.advance(event.id(), row.changedAt())) {
+                    // Re-read from the overlap window, already applied
+                    continue;
+                }
+                applied++;
+                if (row.indexable() && !event.startDate().isBefore(today)) {
+                    put(event);
+                } else {
+                    removeNow(event.id());
+                }
+            }
+            if (full) {
+                // Deleted events and removed coordinates only show up as missing rows
+                for (var id : List.copyOf(events.keySet())) {
+                    if (!seen.contains(id)) {
+                        removeNow(id);
+                    }
+                }
+                lastFullReload = System.currentTimeMillis();
+            }
+            for (var event : List.copyOf(events.values())) {
+                if (event.startDate().isBefore(today)) {
+                    removeNow(event.id());
+                }
+            }
+
+            if (full || applied > 0) {
+                log.info("Nearby event index {}: {} events in {} cells, {} rows applied in {} ms",
+                        full ? "reloaded" : "refreshed", events.size(), cells.size(), applied,
+                        (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh nearby event index, keeping the current one: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop a deleted event once the current transaction commits
+     */
+    public void remove(UUID eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(eventId);
+                }
+            });
+        } else {
+            removeNow(eventId);
+        }
+    }
+
+    // Helper methods
+    private void put(GeoEvent event) {
+        lock.lock();
+        try {
+            var previous = events.put(event.id(), event);
+            if (previous != null && previous.cell() != event.cell()) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(event.cell(), key -> new ConcurrentHashMap<>()).put(event.id(), event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeNow(UUID eventId) {
+        lock.lock();
+        try {
+            var previous = events.remove(eventId);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeFromCell(GeoEvent event) {
+        cells.computeIfPresent(event.cell(), (key, members) -> {
+            members.remove(event.id());
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private Row readRow(ResultSet rs) throws SQLException {
+        var latitude = rs.getBigDecimal("latitude");
+        var longitude = rs.getBigDecimal("longitude");
+        boolean hasCoordinates = latitude != null && longitude != null;
+        double lat = hasCoordinates ? latitude.doubleValue() : 0;
+        double lon = hasCoordinates ? longitude.doubleValue() : 0;
+        var event = new GeoEvent(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("image_url"),
+                EventCategory.valueOf(rs.getString("category").toUpperCase(Locale.ROOT)),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("start_time", LocalTime.class),
+                rs.getString("venue"),
+                rs.getString("city"),
+                lat,
+                lon,
+                grid.cellOf(lat, lon));
+        return new Row(hasCoordinates && "PUBLISHED".equalsIgnoreCase(rs.getString("status")),
+                rs.getTimestamp("changed_at"), event);
+    }
+
+    private static NearbyEventDTO toDTO(GeoEvent event, double distanceKm) {
+        return NearbyEventDTO.builder()
+                .id(event.id())
+                .title(event.title())
+                .slug(event.slug())
+                .imageUrl(event.imageUrl())
+                .category(event.category())
+                .startDate(event.startDate())
+                .startTime(event.startTime())
+                .venue(event.venue())
+                .city(event.city())
+                .latitude(event.latitude())
+                .longitude(event.longitude())
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .build();
+    }
+}
@@ -0,0 +1,318 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.PredictionLevel;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.BacktestReportDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.LevelCalibrationDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.RegistrationTrendEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRegistrationRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.RegistrationTrendRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline backtesting of the prediction engine.
+ * Replays the registration history of completed events through {@link PredictionEngine}
+ * and compares the expected attendance against the attendance actually recorded.
+ * Events are loaded and scored one page at a time, so memory use does not depend on
+ * the date range.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PredictionBacktestService {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int SPLIT_THRESHOLD = 64;
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final EntityManager entityManager;
+    private final RegistrationTrendRepository trendRepository;
+    private final PredictionEngine predictionEngine;
+    private final PredictionFactorCatalog factorCatalog;
+
+    /**
+     * Run a backtest over the events completed between two dates
+     *
+     * @param fromDate    first event start date to include (defaults to one year ago)
+     * @param toDate      last event start date to include (defaults to today)
+     * @param minLeadDays only replay snapshots taken at least this many days before the event
+     */
+    public BacktestReportDTO runBacktest(LocalDate fromDate, LocalDate toDate, int minLeadDays) {
+        LocalDate to = toDate != null ? toDate : LocalDate.now();
+        LocalDate from = fromDate != null ? fromDate : to.minusYears(1);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        if (minLeadDays < 0) {
+            throw new IllegalArgumentException("minLeadDays must not be negative");
+        }
+
+        long startedAt = System.nanoTime();
+        var weights = factorCatalog.current();
+        log.info("Backtesting prediction engine over completed events between {} and {}", from, to);
+
+        var total = new Accumulator();
+        int eventsEvaluated = 0;
+        int eventsWithoutHistory = 0;
+        try (var pool = new ForkJoinPool()) {
+            var afterId = new UUID(0, 0);
+            List<EventEntity> page;
+            do {
+                page = eventRepository.findCompletedEventsBetween(from, to, afterId, Limit.of(LOAD_CHUNK_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+                var cases = loadCases(page, minLeadDays);
+                // Only the detached cases are kept, the page's entities can go
+                entityManager.clear();
+
+                eventsEvaluated += cases.size();
+                eventsWithoutHistory += page.size() - cases.size();
+                total.merge(pool.invoke(new BacktestTask(cases, weights, 0, cases.size())));
+            } while (page.size() == LOAD_CHUNK_SIZE);
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Backtest finished in {} ms: {} events, {} without history, {} snapshots, MAE={}",
+                durationMs, eventsEvaluated, eventsWithoutHistory, total.count(), total.mae());
+
+        List<LevelCalibrationDTO> calibration = new ArrayList<>();
+        for (PredictionLevel level : PredictionLevel.values()) {
+            calibration.add(total.calibration(level));
+        }
+
+        return BacktestReportDTO.builder()
+                .fromDate(from)
+                .toDate(to)
+                .minLeadDays(minLeadDays)
+                .weightsVersion(weights.version())
+                .eventsEvaluated(eventsEvaluated)
+                .eventsWithoutHistory(eventsWithoutHistory)
+                .snapshotsEvaluated(total.count())
+                .meanAbsoluteError(total.mae())
+                .meanAbsolutePercentageError(total.mape())
+                .snapshotsWithoutPercentageError(total.count() - total.percentageCount())
+                .calibration(calibration)
+                .durationMs(durationMs)
+                .generatedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    // Helper methods
+
+    /**
+     * Cases of a page of events; events without a snapshot in the lead window are left out
+     */
+    private List<BacktestCase> loadCases(List<EventEntity> events, int minLeadDays) {
+        var ids = events.stream().map(EventEntity::getId).toList();
+
+        Map<UUID, Long> attended = new HashMap<>();
+        for (Object[] row : registrationRepository.countAttendedByEventIds(ids)) {
+            attended.put((UUID) row[0], (Long) row[1]);
+        }
+
+        Map<UUID, List<RegistrationTrendEntity>> trends = new HashMap<>();
+        for (var trend : trendRepository.findByEventIdsOrderByDate(ids)) {
+            trends.computeIfAbsent(trend.getEvent().getId(), id -> new ArrayList<>()).add(trend);
+        }
+
+        List<BacktestCase> cases = new ArrayList<>(events.size());
+        for (var event : events) {
+            var snapshots = buildSnapshots(event, trends.getOrDefault(event.getId(), List.of()), minLeadDays);
+            if (!snapshots.isEmpty()) {
+                int actual = attended.getOrDefault(event.getId(), 0L).intValue();
+                cases.add(new BacktestCase(event.getCapacity(), actual, snapshots));
+            }
+        }
+        return cases;
+    }
+
+    /**
+     * Rebuild point-in-time snapshots from the daily registration trend.
+     * Interest and views are only stored as final counters, so they are scaled
+     * by the share of registrations reached at each snapshot date.
+     * Events without trend rows have no point-in-time state; their final counters would
+     * leak the outcome into the prediction, so they yield no snapshot.
+     */
+    private List<PredictionEngine.Snapshot> buildSnapshots(EventEntity event, List<RegistrationTrendEntity> trends,
+            int minLeadDays) {
+        if (trends.isEmpty()) {
+            return List.of();
+        }
+        var finalState = PredictionEngine.Snapshot.of(event, event.getStartDate().minusDays(Math.max(1, minLeadDays)));
+
+        int finalRegistered = Math.max(1, event.getRegisteredCount());
+        List<PredictionEngine.Snapshot> snapshots = new ArrayList<>(trends.size());
+        for (var trend : trends) {
+            long leadDays = ChronoUnit.DAYS.between(trend.getDate(), event.getStartDate());
+            if (leadDays <= 0 || leadDays < minLeadDays) {
+                continue;
+            }
+            double share = Math.min(1.0, (double) trend.getCumulative() / finalRegistered);
+            snapshots.add(new PredictionEngine.Snapshot(
+                    finalState.capacity(),
+                    trend.getCumulative(),
+                    (int) Math.round(finalState.interestedCount() * share),
+                    (int) Math.round(finalState.viewsCount() * share),
+                    finalState.isFree(),
+                    finalState.isFeatured(),
+                    finalState.isTrending(),
+                    finalState.startDate(),
+                    trend.getDate()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Detached inputs for a single completed event
+     */
+    private record BacktestCase(int capacity, int actualAttendance, List<PredictionEngine.Snapshot> snapshots) {
+    }
+
+    /**
+     * Splits the cases in halves until they are small enough to score sequentially
+     */
+    private class BacktestTask extends RecursiveTask<Accumulator> {
+
+        private final List<BacktestCase> cases;
+        private final PredictionFactorCatalog.Weights weights;
+        private final int from;
+        private final int to;
+
+        BacktestTask(List<BacktestCase> cases, PredictionFactorCatalog.Weights weights, int from, int to) {
+            this.cases = cases;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                var accumulator = new Accumulator();
+                for (int i = from; i < to; i++) {
+                    var backtestCase = cases.get(i);
+                    for (var snapshot : backtestCase.snapshots()) {
+                        accumulator.add(predictionEngine.predict(snapshot, weights), backtestCase);
+                    }
+                }
+                return accumulator;
+            }
+
+            int middle = (from + to) >>> 1;
+            var left = new BacktestTask(cases, weights, from, middle);
+            left.fork();
+            var right = new BacktestTask(cases, weights, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Error sums per prediction level, mergeable across fork/join branches
+     */
+    private static final class Accumulator {
+
+        private static final int LEVELS = PredictionLevel.values().length;
+
+        private final long[] count = new long[LEVELS];
+        private final long[] percentageCount = new long[LEVELS];
+        private final double[] absoluteError = new double[LEVELS];
+        private final double[] percentageError = new double[LEVELS];
+        private final double[] predictedProbability = new double[LEVELS];
+        private final double[] observedRate = new double[LEVELS];
+
+        void add(PredictionEngine.Result result, BacktestCase backtestCase) {
+            int level = result.level().ordinal();
+            double error = Math.abs(result.estimatedExpected() - backtestCase.actualAttendance());
+
+            count[level]++;
+            absoluteError[level] += error;
+            predictedProbability[level] += result.probability();
+            observedRate[level] += backtestCase.capacity() > 0
+                    ? 100.0 * backtestCase.actualAttendance() / backtestCase.capacity() : 0;
+            if (backtestCase.actualAttendance() > 0) {
+                percentageCount[level]++;
+                percentageError[level] += 100.0 * error / backtestCase.actualAttendance();
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            for (int i = 0; i < LEVELS; i++) {
+                count[i] += other.count[i];
+                percentageCount[i] += other.percentageCount[i];
+                absoluteError[i] += other.absoluteError[i];
+                percentageError[i] += other.percentageError[i];
+                predictedProbability[i] += other.predictedProbability[i];
+                observedRate[i] += other.observedRate[i];
+            }
+            return this;
+        }
+
+        long count() {
+            return sum(count);
+        }
+
+        double mae() {
+            return ratio(sum(absoluteError), count());
+        }
+
+        double mape() {
+            return ratio(sum(percentageError), percentageCount());
+        }
+
+        /**
+         * Snapshots of events with at least one attendee, the only ones with a percentage error
+         */
+        long percentageCount() {
+            return sum(percentageCount);
+        }
+
+        LevelCalibrationDTO calibration(PredictionLevel level) {
+            int i = level.ordinal();
+            return LevelCalibrationDTO.builder()
+                    .level(level)
+                    .snapshots(count[i])
+                    .meanPredictedProbability(ratio(predictedProbability[i], count[i]))
+                    .observedAttendanceRate(ratio(observedRate[i], count[i]))
+                    .meanAbsoluteError(ratio(absoluteError[i], count[i]))
+                    .meanAbsolutePercentageError(ratio(percentageError[i], percentageCount[i]))
+                    .build();
+        }
+
+        private static long sum(long[] values) {
+            long total = 0;
+            for (long value : values) total += value;
+            return total;
+        }
+
+        private static double sum(double[] values) {
+            double total = 0;
+            for (double value : values) total += value;
+            return total;
+        }
+
+        private static double ratio(double numerator, long denominator) {
+            return denominator > 0 ? numerator / denominator : 0;
+        }
+    }
+}
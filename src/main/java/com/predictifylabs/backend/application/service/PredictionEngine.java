@@ -0,0 +1,285 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.FactorImpact;
+import com.predictifylabs.backend.domain.model.FactorType;
+import com.predictifylabs.backend.domain.model.PredictionLevel;
+import com.predictifylabs.backend.domain.model.PredictionTrend;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.PredictionFactorDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pure attendance scoring engine.
+ * Works on an immutable snapshot of event metrics so the same model can be used
+ * for live predictions and for replaying historical data (backtesting).
+ * Factor weights come from the in-memory {@link PredictionFactorCatalog} snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+public class PredictionEngine {
+
+    private final PredictionFactorCatalog factorCatalog;
+
+    /**
+     * Factors computed by the engine, keyed by their prediction_factors_catalog id
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Factor {
+        TIME_UNTIL_EVENT("time_until_event", "Time Until Event", 0.2),
+        REGISTRATION_RATE("registration_rate", "Registration Rate", 0.3),
+        INTEREST_LEVEL("interest_level", "Interest Level", 0.15),
+        VISIBILITY("visibility", "Visibility", 0.1),
+        PRICE_ACCESSIBILITY("price_accessibility", "Price Accessibility", 0.15),
+        PROMOTION_STATUS("promotion_status", "Promotion Status", 0.1);
+
+        private final String catalogId;
+        private final String displayName;
+        private final double defaultWeight;
+
+        public static Factor fromCatalogId(String catalogId) {
+            for (Factor factor : values()) {
+                if (factor.catalogId.equals(catalogId)) {
+                    return factor;
+                }
+            }
+            throw new IllegalArgumentException("Unknown prediction factor: " + catalogId);
+        }
+    }
+
+    /**
+     * Point-in-time view of the event inputs used by the model
+     */
+    public record Snapshot(
+            int capacity,
+            int registeredCount,
+            int interestedCount,
+            int viewsCount,
+            boolean isFree,
+            boolean isFeatured,
+            boolean isTrending,
+            LocalDate startDate,
+            LocalDate asOf) {
+
+        public static Snapshot of(EventEntity event, LocalDate asOf) {
+            return new Snapshot(
+                    event.getCapacity(),
+                    event.getRegisteredCount(),
+                    event.getInterestedCount(),
+                    event.getViewsCount(),
+                    Boolean.TRUE.equals(event.getIsFree()),
+                    Boolean.TRUE.equals(event.getIsFeatured()),
+                    Boolean.TRUE.equals(event.getIsTrending()),
+                    event.getStartDate(),
+                    asOf);
+        }
+    }
+
+    /**
+     * Model output for a single snapshot
+     */
+    public record Result(
+            List<PredictionFactorDTO> factors,
+            int probability,
+            PredictionLevel level,
+            short confidence,
+            int estimatedMin,
+            int estimatedMax,
+            int estimatedExpected,
+            PredictionTrend trend,
+            double trendChange) {
+    }
+
+    /**
+     * Score a snapshot with the current catalog weights
+     */
+    public Result predict(Snapshot snapshot) {
+        return predict(snapshot, factorCatalog.current());
+    }
+
+    /**
+     * Score a snapshot with an explicit set of weights
+     */
+    public Result predict(Snapshot snapshot, PredictionFactorCatalog.Weights weights) {
+        var factors = calculatePredictionFactors(snapshot, weights);
+        int probability = calculateBaseProbability(factors);
+
+        int capacity = snapshot.capacity();
+        int currentRegistrations = snapshot.registeredCount();
+        int estimatedExpected = calculateExpectedAttendance(capacity, probability, currentRegistrations);
+        int estimatedMin = Math.max(currentRegistrations, (int) (estimatedExpected * 0.7));
+        int estimatedMax = Math.min(capacity, (int) (estimatedExpected * 1.3));
+
+        return new Result(
+                factors,
+                probability,
+                determinePredictionLevel(probability),
+                calculateConfidence(snapshot),
+                estimatedMin,
+                estimatedMax,
+                estimatedExpected,
+                determineTrend(snapshot),
+                calculateTrendChange(snapshot));
+    }
+
+    // Helper methods
+    private List<PredictionFactorDTO> calculatePredictionFactors(Snapshot event, PredictionFactorCatalog.Weights weights) {
+        List<PredictionFactorDTO> factors = new ArrayList<>();
+
+        // Time until event factor
+        long daysUntil = ChronoUnit.DAYS.between(event.asOf(), event.startDate());
+        if (weights.isActive(Factor.TIME_UNTIL_EVENT)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.TIME_UNTIL_EVENT.getDisplayName())
+                    .type(FactorType.POSITIVE)
+                    .impact(daysUntil < 7 ? FactorImpact.HIGH :
+                            daysUntil < 30 ? FactorImpact.MEDIUM :
+                                    FactorImpact.LOW)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.TIME_UNTIL_EVENT)))
+                    .score(BigDecimal.valueOf(Math.max(0, 100 - daysUntil)))
+                    .description(daysUntil + " days until event")
+                    .build());
+        }
+
+        // Registration rate factor
+        double registrationRate = event.capacity() > 0 ?
+                (double) event.registeredCount() / event.capacity() * 100 : 0;
+        if (weights.isActive(Factor.REGISTRATION_RATE)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.REGISTRATION_RATE.getDisplayName())
+                    .type(FactorType.POSITIVE)
+                    .impact(registrationRate > 70 ? FactorImpact.HIGH :
+                            registrationRate > 40 ? FactorImpact.MEDIUM :
+                                    FactorImpact.LOW)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.REGISTRATION_RATE)))
+                    .score(BigDecimal.valueOf(registrationRate))
+                    .description(String.format("%.1f%% of capacity registered", registrationRate))
+                    .build());
+        }
+
+        // Interest factor
+        int interestScore = event.interestedCount() > 0 ?
+                Math.min(100, event.interestedCount() * 2) : 0;
+        if (weights.isActive(Factor.INTEREST_LEVEL)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.INTEREST_LEVEL.getDisplayName())
+                    .type(FactorType.POSITIVE)
+                    .impact(interestScore > 50 ? FactorImpact.HIGH :
+                            interestScore > 20 ? FactorImpact.MEDIUM :
+                                    FactorImpact.LOW)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.INTEREST_LEVEL)))
+                    .score(BigDecimal.valueOf(interestScore))
+                    .description(event.interestedCount() + " people interested")
+                    .build());
+        }
+
+        // Views factor
+        int viewsScore = event.viewsCount() > 0 ?
+                Math.min(100, event.viewsCount() / 10) : 0;
+        if (weights.isActive(Factor.VISIBILITY)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.VISIBILITY.getDisplayName())
+                    .type(FactorType.POSITIVE)
+                    .impact(viewsScore > 50 ? FactorImpact.HIGH :
+                            viewsScore > 20 ? FactorImpact.MEDIUM :
+                                    FactorImpact.LOW)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.VISIBILITY)))
+                    .score(BigDecimal.valueOf(viewsScore))
+                    .description(event.viewsCount() + " views")
+                    .build());
+        }
+
+        // Price factor
+        boolean isFree = event.isFree();
+        int priceScore = isFree ? 80 : 50;
+        if (weights.isActive(Factor.PRICE_ACCESSIBILITY)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.PRICE_ACCESSIBILITY.getDisplayName())
+                    .type(isFree ? FactorType.POSITIVE : FactorType.NEUTRAL)
+                    .impact(isFree ? FactorImpact.HIGH : FactorImpact.MEDIUM)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.PRICE_ACCESSIBILITY)))
+                    .score(BigDecimal.valueOf(priceScore))
+                    .description(isFree ? "Free event" : "Paid event")
+                    .build());
+        }
+
+        // Featured/Trending factor
+        boolean isFeatured = event.isFeatured();
+        boolean isTrending = event.isTrending();
+        int promotionScore = (isFeatured ? 50 : 0) + (isTrending ? 50 : 0);
+        if (weights.isActive(Factor.PROMOTION_STATUS)) {
+            factors.add(PredictionFactorDTO.builder()
+                    .name(Factor.PROMOTION_STATUS.getDisplayName())
+                    .type(promotionScore > 0 ? FactorType.POSITIVE : FactorType.NEUTRAL)
+                    .impact(promotionScore > 50 ? FactorImpact.HIGH :
+                            promotionScore > 0 ? FactorImpact.MEDIUM :
+                                    FactorImpact.LOW)
+                    .weight(BigDecimal.valueOf(weights.weight(Factor.PROMOTION_STATUS)))
+                    .score(BigDecimal.valueOf(promotionScore))
+                    .description(isFeatured ? "Featured event" : (isTrending ? "Trending event" : "Standard listing"))
+                    .build());
+        }
+
+        return factors;
+    }
+
+    private int calculateBaseProbability(List<PredictionFactorDTO> factors) {
+        double weightedSum = 0;
+        double totalWeight = 0;
+
+        for (var factor : factors) {
+            weightedSum += factor.score().doubleValue() * factor.weight().doubleValue();
+            totalWeight += factor.weight().doubleValue();
+        }
+
+        int probability = totalWeight > 0 ? (int) (weightedSum / totalWeight) : 50;
+        return Math.max(0, Math.min(100, probability));
+    }
+
+    private PredictionLevel determinePredictionLevel(int probability) {
+        if (probability >= 65) return PredictionLevel.HIGH;
+        if (probability >= 35) return PredictionLevel.MEDIUM;
+        return PredictionLevel.LOW;
+    }
+
+    private int calculateExpectedAttendance(int capacity, int probability, int currentRegistrations) {
+        int baseExpected = (capacity * probability) / 100;
+        // Weight current registrations more heavily
+        return (baseExpected + currentRegistrations * 2) / 3;
+    }
+
+    private short calculateConfidence(Snapshot event) {
+        // Higher confidence with more data (registrations, views, time)
+        int registrationData = Math.min(30, event.registeredCount() / 2);
+        int viewData = Math.min(20, event.viewsCount() / 50);
+        int interestData = Math.min(20, event.interestedCount());
+        int baseConfidence = 30;
+
+        return (short) Math.min(100, baseConfidence + registrationData + viewData + interestData);
+    }
+
+    private PredictionTrend determineTrend(Snapshot event) {
+        // Simple trend based on recent activity
+        if (event.registeredCount() > event.capacity() * 0.5) {
+            return PredictionTrend.UP;
+        } else if (event.registeredCount() < event.capacity() * 0.2) {
+            return PredictionTrend.DOWN;
+        }
+        return PredictionTrend.STABLE;
+    }
+
+    private double calculateTrendChange(Snapshot event) {
+        // Simplified trend change calculation
+        double registrationRate = event.capacity() > 0 ?
+                (double) event.registeredCount() / event.capacity() * 100 : 0;
+        return registrationRate > 50 ? 5.0 : (registrationRate > 25 ? 0.0 : -3.0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.PredictionFactorsCatalogRepository;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory snapshot of the prediction factor weights stored in prediction_factors_catalog.
+ * The snapshot is immutable and swapped atomically, so scoring never touches the database.
+ * Factors missing from the catalog keep their built-in default weight. A change to the
+ * catalog table, on any instance, triggers a reload through the {@link CacheInvalidationBus}.
+ * Reloads run one at a time, so a reload that read older rows can never swap its snapshot
+ * in after a newer one.
+ */
+@Service
+@Slf4j
+public class PredictionFactorCatalog {
+
+    private final PredictionFactorsCatalogRepository catalogRepository;
+
+    private final AtomicReference<Weights> current = new AtomicReference<>(Weights.defaults());
+
+    /**
+     * Held from the catalog read to the swap
+     */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public PredictionFactorCatalog(PredictionFactorsCatalogRepository catalogRepository, CacheInvalidationBus cacheInvalidationBus) {
+        this.catalogRepository = catalogRepository;
+        // Reloaded off the listener thread, which must keep draining notifications
+        Runnable reloadAsync = () -> Thread.ofVirtual().start(this::reload);
+        cacheInvalidationBus.register("prediction_factors_catalog", LocalCache.of(id -> reloadAsync.run(), reloadAsync));
+    }
+
+    /**
+     * Immutable set of weights indexed by {@link PredictionEngine.Factor#ordinal()}
+     */
+    public static final class Weights {
+
+        private final double[] values;
+        private final boolean[] active;
+        private final long version;
+        private final OffsetDateTime loadedAt;
+
+        private Weights(double[] values, boolean[] active, long version) {
+            this.values = values;
+            this.active = active;
+            this.version = version;
+            this.loadedAt = OffsetDateTime.now();
+        }
+
+        static Weights defaults() {
+            var factors = PredictionEngine.Factor.values();
+            double[] values = new double[factors.length];
+            boolean[] active = new boolean[factors.length];
+            for (var factor : factors) {
+                values[factor.ordinal()] = factor.getDefaultWeight();
+                active[factor.ordinal()] = true;
+            }
+            return new Weights(values, active, 0);
+        }
+
+        public double weight(PredictionEngine.Factor factor) {
+            return values[factor.ordinal()];
+        }
+
+        public boolean isActive(PredictionEngine.Factor factor) {
+            return active[factor.ordinal()];
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public OffsetDateTime loadedAt() {
+            return loadedAt;
+        }
+    }
+
+    /**
+     * Get the weights currently used for scoring
+     */
+    public Weights current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${application.prediction.factors.refresh-interval:PT5M}",
+            initialDelayString = "${application.prediction.factors.refresh-interval:PT5M}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Reload the weights from the catalog and swap the snapshot if anything changed
+     *
+     * @return the snapshot in use after the reload
+     */
+    public Weights reload() {
+        reloadLock.lock();
+        try {
+            return reloadLocked();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Helper methods
+
+    private Weights reloadLocked() {
+        var defaults = Weights.defaults();
+        double[] values = defaults.values.clone();
+        boolean[] active = defaults.active.clone();
+
+        try {
+            var ids = Arrays.stream(PredictionEngine.Factor.values()).map(PredictionEngine.Factor::getCatalogId).toList();
+            for (Object[] row : catalogRepository.findWeightsByIds(ids)) {
+                var factor = PredictionEngine.Factor.fromCatalogId((String) row[0]);
+                values[factor.ordinal()] = ((BigDecimal) row[1]).doubleValue();
+                active[factor.ordinal()] = Boolean.TRUE.equals(row[2]);
+            }
+        } catch (Exception e) {
+            log.error("Failed to load prediction factor weights, keeping version {}", current.get().version(), e);
+            return current.get();
+        }
+
+        var previous = current.get();
+        if (Arrays.equals(previous.values, values) && Arrays.equals(previous.active, active)) {
+            return previous;
+        }
+        var next = new Weights(values, active, previous.version() + 1);
+        current.set(next);
+        log.info("Prediction factor weights updated to version {}: {}", next.version(), Arrays.toString(values));
+        return next;
+    }
+}
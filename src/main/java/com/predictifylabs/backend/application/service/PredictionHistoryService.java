@@ -0,0 +1,115 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.PredictionLevel;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.PredictionHistoryDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventPredictionRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for the prediction time series of an event.
+ * Every recompute inserts a new prediction row, so a scheduled job keeps recent
+ * predictions at full resolution, downsamples older ones to one point per day
+ * and drops points past the retention period (the latest prediction is always kept).
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class PredictionHistoryService {
+
+    private static final int MAX_HISTORY_DAYS = 365;
+
+    private final EventPredictionRepository predictionRepository;
+    private final EventRepository eventRepository;
+    private final Duration fullResolution;
+    private final Duration retention;
+    private final int batchSize;
+
+    public PredictionHistoryService(
+            EventPredictionRepository predictionRepository,
+            EventRepository eventRepository,
+            @Value("${application.prediction.history.full-resolution:P7D}") Duration fullResolution,
+            @Value("${application.prediction.history.retention:P365D}") Duration retention,
+            @Value("${application.prediction.history.batch-size:5000}") int batchSize) {
+        this.predictionRepository = predictionRepository;
+        this.eventRepository = eventRepository;
+        this.fullResolution = fullResolution;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get the prediction series of an event for the last given days
+     */
+    public PredictionHistoryDTO getHistory(UUID eventId, int days) {
+        if (days < 1 || days > MAX_HISTORY_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_HISTORY_DAYS);
+        }
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found with id: " + eventId);
+        }
+
+        var since = OffsetDateTime.now().minusDays(days);
+        var rows = predictionRepository.findHistoryByEventId(eventId, since);
+        List<PredictionHistoryDTO.Point> points = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            points.add(PredictionHistoryDTO.Point.builder()
+                    .calculatedAt((OffsetDateTime) row[0])
+                    .probability((Short) row[1])
+                    .level((PredictionLevel) row[2])
+                    .confidence((Short) row[3])
+                    .estimatedExpected((Integer) row[4])
+                    .build());
+        }
+
+        return PredictionHistoryDTO.builder()
+                .eventId(eventId)
+                .since(since)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Downsample and expire old predictions in small batches, each in its own transaction
+     */
+    @Scheduled(fixedDelayString = "${application.prediction.history.compaction-interval:PT6H}",
+            initialDelayString = "${application.prediction.history.compaction-interval:PT6H}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void compactHistory() {
+        var now = OffsetDateTime.now();
+        try {
+            int compacted = deleteInBatches(now.minus(fullResolution), true);
+            int expired = deleteInBatches(now.minus(retention), false);
+            if (compacted + expired > 0) {
+                log.info("Prediction history compacted: {} downsampled, {} expired", compacted, expired);
+            }
+        } catch (Exception e) {
+            log.error("Prediction history compaction failed", e);
+        }
+    }
+
+    // Helper methods
+    private int deleteInBatches(OffsetDateTime cutoff, boolean downsample) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = downsample
+                    ? predictionRepository.compactToDailyBefore(cutoff, batchSize)
+                    : predictionRepository.deleteExpiredBefore(cutoff, batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
+    }
+}
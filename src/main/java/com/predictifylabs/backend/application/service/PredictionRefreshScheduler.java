@@ -0,0 +1,103 @@
+package com.predictifylabs.backend.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Debounced recompute of event predictions.
+ * Registration changes mark the event as dirty; a background worker regenerates
+ * each dirty event at most once per refresh window, so a burst of registrations
+ * results in a single recompute instead of one per registration.
+ */
+@Service
+@Slf4j
+public class PredictionRefreshScheduler {
+
+    private final PredictionService predictionService;
+    private final boolean enabled;
+    private final long windowMillis;
+
+    private final Set<UUID> dirtyEvents = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> lastRefreshedAt = new ConcurrentHashMap<>();
+
+    public PredictionRefreshScheduler(
+            PredictionService predictionService,
+            @Value("${application.prediction.refresh.enabled:true}") boolean enabled,
+            @Value("${application.prediction.refresh.window:PT1M}") Duration window) {
+        this.predictionService = predictionService;
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Mark an event's prediction as stale.
+     * Inside a transaction the event is only enqueued after commit, so the
+     * recompute never sees (or races with) uncommitted registration data.
+     */
+    public void markDirty(UUID eventId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyEvents.add(eventId);
+                }
+            });
+        } else {
+            dirtyEvents.add(eventId);
+        }
+    }
+
+    /**
+     * Number of events waiting for a recompute
+     */
+    public int pendingCount() {
+        return dirtyEvents.size();
+    }
+
+    @Scheduled(fixedDelayString = "${application.prediction.refresh.poll-interval:PT5S}")
+    public void refreshDirtyPredictions() {
+        if (dirtyEvents.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+        for (UUID eventId : new ArrayList<>(dirtyEvents)) {
+            Long last = lastRefreshedAt.get(eventId);
+            if (last != null && now - last < windowMillis) {
+                continue; // Still inside the window, keep it dirty for a later pass
+            }
+
+            dirtyEvents.remove(eventId);
+            lastRefreshedAt.put(eventId, now);
+            try {
+                predictionService.generatePrediction(eventId);
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("Failed to refresh prediction for event {}: {}", eventId, e.getMessage());
+            }
+        }
+
+        // Forget events whose window has elapsed so the map does not grow unbounded
+        lastRefreshedAt.entrySet().removeIf(entry -> now - entry.getValue() >= windowMillis
+                && !dirtyEvents.contains(entry.getKey()));
+
+        if (refreshed > 0) {
+            log.debug("Refreshed {} predictions, {} still pending", refreshed, dirtyEvents.size());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.RecommendedEventDTO;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Personalized upcoming-event recommendations.
+ * The user profile (interests, preferred categories and locations, categories and tags of
+ * past registrations) is loaded in one query and turned into a sparse vector; it is scored
+ * against {@link EventFeatureCatalog} through the inverted index, and the best events are
+ * kept with a bounded heap. Events with no overlap fill remaining slots by popularity.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class RecommendationService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final String USER_NAMESPACE = "recommendations.user";
+
+    private static final String PROFILE_SQL = """
+            SELECT 'i' AS kind, interest AS term FROM user_interests WHERE user_id = ?
+            UNION ALL
+            SELECT 'c', category::text FROM user_preferred_categories WHERE user_id = ?
+            UNION ALL
+            SELECT 'l', location FROM user_preferred_locations WHERE user_id = ?
+            UNION ALL
+            SELECT 'r', r.event_id::text FROM event_registrations r WHERE r.user_id = ?
+            UNION ALL
+            SELECT 'rc', e.category::text FROM event_registrations r JOIN events e ON e.id = r.event_id
+            WHERE r.user_id = ? AND r.status <> 'cancelled'
+            UNION ALL
+            SELECT 'rt', t.slug FROM event_registrations r
+            JOIN event_tags et ON et.event_id = r.event_id JOIN tags t ON t.id = et.tag_id
+            WHERE r.user_id = ? AND r.status <> 'cancelled'
+            """;
+
+    private static final float EXPLICIT_WEIGHT = 1.0f;
+    private static final float LOCATION_WEIGHT = 0.8f;
+    private static final float HISTORY_WEIGHT = 0.3f;
+    private static final float MAX_TERM_WEIGHT = 1.5f;
+
+    /**
+     * Tie-breaker: a popular event wins among equally relevant ones
+     */
+    private static final float POPULARITY_WEIGHT = 0.01f;
+
+    private final EventFeatureCatalog catalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<UUID, CachedRecommendations> cache = new ConcurrentHashMap<>();
+
+    public RecommendationService(
+            EventFeatureCatalog catalog,
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${application.recommendations.cache-ttl:PT2M}") Duration ttl,
+            @Value("${application.recommendations.cache-max-entries:50000}") int maxEntries) {
+        this.catalog = catalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        cacheInvalidationBus.register(USER_NAMESPACE, LocalCache.of(id -> cache.remove(UUID.fromString(id)), cache::clear));
+    }
+
+    /**
+     * Get the top upcoming events for a user, from cache when possible
+     */
+    public List<RecommendedEventDTO> getRecommendations(UUID userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        long now = System.currentTimeMillis();
+        var cached = cache.get(userId);
+        if (cached == null || cached.expiresAt <= now) {
+            cached = new CachedRecommendations(recommend(userId), now + ttlMillis);
+            if (cache.size() >= maxEntries) {
+                evictExpired();
+            }
+            if (cache.size() < maxEntries) {
+                cache.put(userId, cached);
+            }
+        }
+        var items = cached.items;
+        return items.size() > limit ? items.subList(0, limit) : items;
+    }
+
+    /**
+     * Forget the cached recommendations of a user on every instance, e.g. after registering to an event
+     */
+    public void invalidateUser(UUID userId) {
+        cacheInvalidationBus.publish(USER_NAMESPACE, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${application.recommendations.cache-ttl:PT2M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    // Helper methods
+    private List<RecommendedEventDTO> recommend(UUID userId) {
+        long startedAt = System.nanoTime();
+        var snapshot = catalog.current();
+        var profile = loadProfile(userId, snapshot);
+
+        int n = snapshot.size();
+        float[] scores = new float[n];
+        int[] touched = new int[n];
+        int touchedCount = 0;
+        for (int q = 0; q < profile.dimensions.length; q++) {
+            int[] postings = snapshot.postings(profile.dimensions[q]);
+            float[] weights = snapshot.postingWeights(profile.dimensions[q]);
+            float queryWeight = profile.weights[q];
+            for (int j = 0; j < postings.length; j++) {
+                int i = postings[j];
+                if (scores[i] == 0) {
+                    touched[touchedCount++] = i;
+                }
+                scores[i] += queryWeight * weights[j];
+            }
+        }
+
+        var top = new TopK(MAX_LIMIT);
+        for (int t = 0; t < touchedCount; t++) {
+            int i = touched[t];
+            if (!profile.excluded.contains(i)) {
+                top.offer(i, scores[i] + POPULARITY_WEIGHT * snapshot.event(i).popularity());
+            }
+        }
+        // Cold start or narrow profile: fill up with popular events
+        for (int i : snapshot.byPopularity()) {
+            if (top.size() >= MAX_LIMIT) {
+                break;
+            }
+            if (scores[i] == 0 && !profile.excluded.contains(i)) {
+                top.offer(i, POPULARITY_WEIGHT * snapshot.event(i).popularity());
+            }
+        }
+
+        List<RecommendedEventDTO> items = new ArrayList<>(top.size());
+        for (int slot : top.descending()) {
+            var event = snapshot.event(top.items[slot]);
+            items.add(RecommendedEventDTO.builder()
+                    .id(event.id())
+                    .title(event.title())
+                    .slug(event.slug())
+                    .imageUrl(event.imageUrl())
+                    .category(event.category())
+                    .city(event.city())
+                    .startDate(event.startDate())
+                    .score(Math.round(top.scores[slot] * 1000) / 1000.0)
+                    .build());
+        }
+        log.debug("Scored {} of {} events for user {} in {} us",
+                touchedCount, n, userId, (System.nanoTime() - startedAt) / 1_000);
+        return List.copyOf(items);
+    }
+
+    private Profile loadProfile(UUID userId, EventFeatureCatalog.Snapshot snapshot) {
+        Map<Integer, Float> vector = new HashMap<>();
+        Set<Integer> excluded = new HashSet<>();
+        jdbcTemplate.query(PROFILE_SQL, rs -> {
+            var term = rs.getString("term");
+            switch (rs.getString("kind")) {
+                case "i" -> {
+                    add(snapshot, vector, EventFeatureCatalog.tagTerm(term), EXPLICIT_WEIGHT);
+                    add(snapshot, vector, EventFeatureCatalog.categoryTerm(term), EXPLICIT_WEIGHT);
+                }
+                case "c" -> add(snapshot, vector, EventFeatureCatalog.categoryTerm(term), EXPLICIT_WEIGHT);
+                case "l" -> {
+                    for (var part : term.split(",")) {
+                        if (!part.isBlank()) {
+                            add(snapshot, vector, EventFeatureCatalog.placeTerm(part), LOCATION_WEIGHT);
+                        }
+                    }
+                }
+                case "rc" -> add(snapshot, vector, EventFeatureCatalog.categoryTerm(term), HISTORY_WEIGHT);
+                case "rt" -> add(snapshot, vector, EventFeatureCatalog.tagTerm(term), HISTORY_WEIGHT);
+                case "r" -> {
+                    var position = snapshot.position(UUID.fromString(term));
+                    if (position != null) {
+                        excluded.add(position);
+                    }
+                }
+                default -> {}
+            }
+        }, userId, userId, userId, userId, userId, userId);
+
+        int[] dimensions = new int[vector.size()];
+        float[] weights = new float[vector.size()];
+        double norm = 0;
+        int k = 0;
+        for (var entry : vector.entrySet()) {
+            dimensions[k] = entry.getKey();
+            weights[k] = Math.min(entry.getValue(), MAX_TERM_WEIGHT);
+            norm += weights[k] * weights[k];
+            k++;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= scale;
+            }
+        }
+        return new Profile(dimensions, weights, excluded);
+    }
+
+    private static void add(EventFeatureCatalog.Snapshot snapshot, Map<Integer, Float> vector, String term, float weight) {
+        int dimension = snapshot.dimension(term);
+        if (dimension >= 0) {
+            vector.merge(dimension, weight, Float::sum);
+        }
+    }
+
+    private record Profile(int[] dimensions, float[] weights, Set<Integer> excluded) {}
+
+    private record CachedRecommendations(List<RecommendedEventDTO> items, long expiresAt) {}
+
+    /**
+     * Fixed-size min-heap of (item, score) in primitive arrays; keeps the k best offers
+     */
+    private static final class TopK {
+
+        private final int[] items;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.items = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void offer(int item, float score) {
+            if (size < items.length) {
+                items[size] = item;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                items[0] = item;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Heap slots ordered by score, best first
+         */
+        int[] descending() {
+            return IntStream.range(0, size).boxed()
+                    .sorted((a, b) -> Float.compare(scores[b], scores[a]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+                if (scores[i] <= scores[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int item = items[a];
+            items[a] = items[b];
+            items[b] = item;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
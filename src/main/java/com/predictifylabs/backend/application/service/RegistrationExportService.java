@@ -0,0 +1,244 @@
+package com.predictifylabs.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streaming export of the registrations of an event.
+ * Rows are read through a forward-only cursor (user and event columns joined in the
+ * same query) and written to the output as they arrive, so memory use is constant
+ * regardless of the number of attendees.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class RegistrationExportService {
+
+    private static final String EVENT_OWNER_SQL = """
+            SELECT o.user_id FROM events e JOIN organizers o ON o.id = e.organizer_id WHERE e.id = ?
+            """;
+
+    private static final String EXPORT_SQL = """
+            SELECT r.id, r.ticket_code, r.status, r.attended, r.attended_at, r.amount_paid, r.payment_status,
+                r.registered_at, r.cancelled_at, u.id AS user_id, u.name AS user_name, u.email AS user_email,
+                e.id AS event_id, e.title AS event_title, e.slug AS event_slug
+            FROM event_registrations r
+            JOIN users u ON u.id = r.user_id
+            JOIN events e ON e.id = r.event_id
+            WHERE r.event_id = ?
+            ORDER BY r.registered_at, r.id
+            """;
+
+    private static final String[] COLUMNS = {
+            "id", "ticketCode", "status", "attended", "attendedAt", "amountPaid", "paymentStatus",
+            "registeredAt", "cancelledAt", "userId", "userName", "userEmail", "eventId", "eventTitle", "eventSlug"
+    };
+
+    /**
+     * 1-based indexes of the TIMESTAMPTZ columns, written as ISO-8601 offsets
+     */
+    private static final Set<Integer> TIMESTAMP_COLUMNS = Set.of(5, 8, 9);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public RegistrationExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${application.registrations.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Supported export formats
+     */
+    public enum ExportFormat {
+        CSV, NDJSON
+    }
+
+    /**
+     * Check that the user organizes the event (admins may export any event).
+     * Must be called before the response starts streaming so errors keep their status code.
+     */
+    public void verifyCanExport(UUID eventId, UUID userId, boolean isAdmin) {
+        var owners = jdbcTemplate.queryForList(EVENT_OWNER_SQL, UUID.class, eventId);
+        if (owners.isEmpty()) {
+            throw new RuntimeException("Event not found with id: " + eventId);
+        }
+        if (!isAdmin && !owners.get(0).equals(userId)) {
+            throw new AccessDeniedException("You are not authorized to export the registrations of this event");
+        }
+    }
+
+    /**
+     * Write every registration of the event to the output stream
+     *
+     * @return number of rows written
+     */
+    public long exportRegistrations(UUID eventId, ExportFormat format, OutputStream out) {
+        long startedAt = System.nanoTime();
+        long rows = readOnlyTransaction.execute(status -> {
+            try (var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                var rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+                long[] count = {0};
+                // A cursor is only used by the Postgres driver inside a transaction with a fetch size
+                jdbcTemplate.query(con -> {
+                    var ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    ps.setObject(1, eventId);
+                    return ps;
+                }, rs -> {
+                    rowWriter.write(rs);
+                    count[0]++;
+                });
+                rowWriter.finish();
+                return count[0];
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} registrations of event {} as {} in {} ms",
+                rows, eventId, format, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                for (int i = 1; i <= COLUMNS.length; i++) {
+                    if (i > 1) writer.write(',');
+                    var value = TIMESTAMP_COLUMNS.contains(i) ? rs.getObject(i, OffsetDateTime.class) : rs.getObject(i);
+                    if (value != null) {
+                        writer.write(escape(String.valueOf(value)));
+                    }
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            // Neutralise spreadsheet formulas in user-provided text, including ones behind a leading tab or CR
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return value;
+        }
+    }
+
+    /**
+     * One JSON object per line, field names match EventRegistrationDTO
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField(COLUMNS[0], rs.getString("id"));
+                generator.writeStringField(COLUMNS[1], rs.getString("ticket_code"));
+                generator.writeStringField(COLUMNS[2], rs.getString("status"));
+                generator.writeBooleanField(COLUMNS[3], rs.getBoolean("attended"));
+                writeTimestamp(COLUMNS[4], rs.getObject("attended_at", OffsetDateTime.class));
+                writeDecimal(COLUMNS[5], rs.getBigDecimal("amount_paid"));
+                generator.writeStringField(COLUMNS[6], rs.getString("payment_status"));
+                writeTimestamp(COLUMNS[7], rs.getObject("registered_at", OffsetDateTime.class));
+                writeTimestamp(COLUMNS[8], rs.getObject("cancelled_at", OffsetDateTime.class));
+                generator.writeStringField(COLUMNS[9], rs.getString("user_id"));
+                generator.writeStringField(COLUMNS[10], rs.getString("user_name"));
+                generator.writeStringField(COLUMNS[11], rs.getString("user_email"));
+                generator.writeStringField(COLUMNS[12], rs.getString("event_id"));
+                generator.writeStringField(COLUMNS[13], rs.getString("event_title"));
+                generator.writeStringField(COLUMNS[14], rs.getString("event_slug"));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+
+        private void writeTimestamp(String field, OffsetDateTime value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value.toString());
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        private void writeDecimal(String field, BigDecimal value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(field, value);
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+    }
+}
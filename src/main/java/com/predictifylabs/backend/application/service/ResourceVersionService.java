@@ -0,0 +1,90 @@
+package com.predictifylabs.backend.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Version stamps of cacheable resources for HTTP conditional requests.
+ * Each lookup is a single indexed row read, so a 304 is answered without loading
+ * the entity graph or building the DTO. Counter updates go through UPDATE events and
+ * the updated_at triggers, so they change the stamp as well.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    /**
+     * The event DTO also embeds the location and the organizer summary
+     */
+    private static final String EVENT_SQL = """
+            SELECT e.id, GREATEST(e.updated_at, l.updated_at, o.updated_at) AS modified_at
+            FROM events e
+            LEFT JOIN event_locations l ON l.event_id = e.id
+            LEFT JOIN organizers o ON o.id = e.organizer_id
+            """;
+
+    private static final String EVENT_BY_ID_SQL = EVENT_SQL + " WHERE e.id = ?";
+
+    private static final String EVENT_BY_SLUG_SQL = EVENT_SQL + " WHERE e.slug = ?";
+
+    private static final String PREDICTION_SQL = """
+            SELECT id, GREATEST(calculated_at, updated_at) AS modified_at
+            FROM event_predictions WHERE event_id = ?
+            ORDER BY calculated_at DESC LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Identity and last modification of a resource representation
+     */
+    public record ResourceVersion(UUID id, OffsetDateTime modifiedAt) {
+
+        /**
+         * Weak validator: the JSON is semantically equal, not byte-equal across encodings
+         */
+        public String etag() {
+            long micros = modifiedAt.toEpochSecond() * 1_000_000 + modifiedAt.getNano() / 1_000;
+            return "W/\"" + id + "-" + Long.toHexString(micros) + "\"";
+        }
+
+        public long lastModified() {
+            return modifiedAt.toInstant().toEpochMilli();
+        }
+    }
+
+    public ResourceVersion getEventVersion(UUID eventId) {
+        return findOne(EVENT_BY_ID_SQL, eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+    }
+
+    public ResourceVersion getEventVersionBySlug(String slug) {
+        return findOne(EVENT_BY_SLUG_SQL, slug)
+                .orElseThrow(() -> new RuntimeException("Event not found with slug: " + slug));
+    }
+
+    /**
+     * Version of the latest prediction of an event, empty when none was generated yet
+     */
+    public Optional<ResourceVersion> getPredictionVersion(UUID eventId) {
+        return findOne(PREDICTION_SQL, eventId);
+    }
+
+    // Helper methods
+    private Optional<ResourceVersion> findOne(String sql, Object key) {
+        return jdbcTemplate.query(sql, this::readVersion, key).stream().findFirst();
+    }
+
+    private ResourceVersion readVersion(ResultSet rs, int rowNum) throws SQLException {
+        return new ResourceVersion(
+                rs.getObject("id", UUID.class),
+                rs.getObject("modified_at", OffsetDateTime.class));
+    }
+}
@@ -0,0 +1,179 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.domain.model.Role;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.PermissionRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.RolePermissionRepository;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Permissions of each {@link Role}, compiled from role_permissions into immutable bitsets.
+ * Every active permission id gets a bit ordinal, so a permission check is a map lookup and
+ * a bit test, with no database access per request. The snapshot is rebuilt at startup and
+ * whenever permissions or role_permissions change on any instance.
+ * Until the first compile succeeds every role has no permissions.
+ */
+@Service
+@Slf4j
+// Registered on the bus after the second-level cache, so its query regions are evicted before a recompile
+@DependsOn("secondLevelCacheInvalidator")
+public class RolePermissionCatalog {
+
+    private final PermissionRepository permissionRepository;
+    private final RolePermissionRepository rolePermissionRepository;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.empty());
+    private final AtomicBoolean recompileScheduled = new AtomicBoolean();
+    private final ReentrantLock compileLock = new ReentrantLock();
+
+    public RolePermissionCatalog(
+            PermissionRepository permissionRepository,
+            RolePermissionRepository rolePermissionRepository,
+            CacheInvalidationBus cacheInvalidationBus) {
+        this.permissionRepository = permissionRepository;
+        this.rolePermissionRepository = rolePermissionRepository;
+        var recompile = LocalCache.of(id -> scheduleRecompile(), this::scheduleRecompile);
+        cacheInvalidationBus.register("permissions", recompile);
+        cacheInvalidationBus.register("role_permissions", recompile);
+    }
+
+    /**
+     * Immutable set of permission ordinals
+     */
+    public static final class PermissionSet {
+
+        private static final PermissionSet EMPTY = new PermissionSet(new long[0]);
+
+        private final long[] words;
+
+        private PermissionSet(long[] words) {
+            this.words = words;
+        }
+
+        public boolean contains(int ordinal) {
+            int word = ordinal >>> 6;
+            return ordinal >= 0 && word < words.length && (words[word] & (1L << ordinal)) != 0;
+        }
+
+        public int size() {
+            return Arrays.stream(words).mapToInt(Long::bitCount).sum();
+        }
+    }
+
+    /**
+     * Permission ordinals and the compiled set of every role, swapped atomically
+     */
+    public static final class Snapshot {
+
+        private final Map<String, Integer> ordinals;
+        private final Map<Role, PermissionSet> roles;
+        private final long version;
+
+        private Snapshot(Map<String, Integer> ordinals, Map<Role, PermissionSet> roles, long version) {
+            this.ordinals = ordinals;
+            this.roles = roles;
+            this.version = version;
+        }
+
+        static Snapshot empty() {
+            return new Snapshot(Map.of(), new EnumMap<>(Role.class), 0);
+        }
+
+        /**
+         * Bit ordinal of a permission id, or -1 when it is unknown or inactive
+         */
+        public int ordinalOf(String permissionId) {
+            var ordinal = ordinals.get(permissionId);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        public PermissionSet permissionsOf(Role role) {
+            return roles.getOrDefault(role, PermissionSet.EMPTY);
+        }
+
+        public boolean hasPermission(Role role, String permissionId) {
+            return permissionsOf(role).contains(ordinalOf(permissionId));
+        }
+
+        public long version() {
+            return version;
+        }
+    }
+
+    /**
+     * Get the compiled permissions currently used for authorization
+     */
+    public Snapshot current() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void compileOnStartup() {
+        compile();
+    }
+
+    /**
+     * Compile the permissions of every role from the database and swap the snapshot
+     *
+     * @return the snapshot in use after the compile
+     */
+    public Snapshot compile() {
+        // Serialized, so an older compile cannot replace the result of a newer one
+        compileLock.lock();
+        try {
+            Map<String, Integer> ordinals = new HashMap<>();
+            for (var permissionId : permissionRepository.findActiveIds()) {
+                ordinals.put(permissionId, ordinals.size());
+            }
+            Map<Role, PermissionSet> roles = new EnumMap<>(Role.class);
+            for (var role : Role.values()) {
+                long[] words = new long[(ordinals.size() + 63) >>> 6];
+                for (var permissionId : rolePermissionRepository.findPermissionIdsByRole(role)) {
+                    var ordinal = ordinals.get(permissionId);
+                    if (ordinal != null) {
+                        words[ordinal >>> 6] |= 1L << ordinal;
+                    }
+                }
+                roles.put(role, new PermissionSet(words));
+            }
+
+            var next = new Snapshot(Map.copyOf(ordinals), roles, current.get().version() + 1);
+            current.set(next);
+            log.info("Role permissions compiled to version {}: {} permissions, {}", next.version(), ordinals.size(),
+                    Arrays.stream(Role.values()).map(role -> role + "=" + next.permissionsOf(role).size()).toList());
+            return next;
+        } catch (Exception e) {
+            log.error("Failed to compile role permissions, keeping version {}", current.get().version(), e);
+            return current.get();
+        } finally {
+            compileLock.unlock();
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Recompile off the listener thread; changes arriving before the compile starts share it
+     */
+    private void scheduleRecompile() {
+        if (recompileScheduled.compareAndSet(false, true)) {
+            Thread.ofVirtual().start(() -> {
+                recompileScheduled.set(false);
+                compile();
+            });
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.predictifylabs.backend.application.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collision-free ticket codes.
+ * A code packs seconds since 2024-01-01 (32 bits), the node id (10 bits) and a per-second
+ * sequence (18 bits) into 60 bits, encoded as 12 Crockford base32 characters plus a
+ * Luhn mod 32 check character: TKT-XXXXXXXXXXXXC.
+ * Each instance leases its node id from the ticket_nodes table, so no two live instances
+ * share one. The value only ever grows on a node, also across holders: a renewal reserves
+ * the states the holder may issue until its next renewal, and the next holder of the node
+ * id starts above that reservation. The UNIQUE constraint on ticket_code stays the backstop.
+ * The check character lets scanners reject typos before any lookup.
+ */
+@Component
+@Slf4j
+public class TicketCodeGenerator {
+
+    public static final String PREFIX = "TKT-";
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] VALUES = new int[128];
+    private static final long EPOCH_SECONDS = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+    private static final int NODE_BITS = 10;
+    private static final int NODE_COUNT = 1 << NODE_BITS;
+    private static final int SEQUENCE_BITS = 18;
+    private static final int PAYLOAD_CHARS = 12;
+    private static final int CODE_LENGTH = PREFIX.length() + PAYLOAD_CHARS + 1;
+    private static final int LEGACY_CODE_LENGTH = PREFIX.length() + 8;
+
+    /**
+     * Takes a free or expired node id, returning the reservation of its previous holder;
+     * a node id leased by a live instance is left untouched and no row is returned
+     */
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO ticket_nodes (node_id, holder, expires_at) VALUES (?, ?, NOW() + make_interval(secs => ?))
+            ON CONFLICT (node_id) DO UPDATE SET holder = EXCLUDED.holder, expires_at = EXCLUDED.expires_at
+            WHERE ticket_nodes.holder = EXCLUDED.holder OR ticket_nodes.expires_at < NOW()
+            RETURNING issued_until
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE ticket_nodes SET expires_at = NOW() + make_interval(secs => ?), issued_until = GREATEST(issued_until, ?)
+            WHERE node_id = ? AND holder = ?
+            """;
+
+    /**
+     * Expire the lease but keep issued_until, the floor of the next holder
+     */
+    private static final String RELEASE_SQL = "UPDATE ticket_nodes SET expires_at = NOW() WHERE node_id = ? AND holder = ?";
+
+    static {
+        java.util.Arrays.fill(VALUES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = i;
+            VALUES[Character.toLowerCase(ALPHABET[i])] = i;
+        }
+        // Crockford decoding aliases
+        VALUES['O'] = VALUES['o'] = 0;
+        VALUES['I'] = VALUES['i'] = VALUES['L'] = VALUES['l'] = 1;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String holder = UUID.randomUUID().toString();
+    private final Duration leaseTtl;
+
+    /**
+     * Guards the lease and the state; a lock rather than synchronized, so a renewal
+     * blocked on JDBC does not pin its carrier when running on a virtual thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int nodeId = -1;
+
+    /**
+     * (seconds << SEQUENCE_BITS) | sequence of the last issued code
+     */
+    private long lastState;
+
+    /**
+     * States up to (excluding) this one are reserved in the database for this holder
+     */
+    private long reservedState;
+
+    /**
+     * System.nanoTime() after which the lease may have been taken over
+     */
+    private long leaseValidUntil;
+
+    @Autowired
+    public TicketCodeGenerator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.tickets.node-lease-ttl:PT2M}") Duration leaseTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * Generator with a fixed node id and no lease, for tests
+     */
+    TicketCodeGenerator(int nodeId) {
+        this.jdbcTemplate = null;
+        this.leaseTtl = null;
+        this.nodeId = nodeId & (NODE_COUNT - 1);
+    }
+
+    /**
+     * Lease a node id before the first registration; the application does not start without one
+     */
+    @PostConstruct
+    void leaseNodeId() {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            acquire();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Issue the next ticket code for this node
+     */
+    public String next() {
+        lock.lock();
+        try {
+            long nowSeconds = Math.max(0, Instant.now().getEpochSecond() - EPOCH_SECONDS);
+            // A new second restarts the sequence; otherwise (or if the clock went back) keep counting.
+            // Sequence overflow carries into the seconds field, which only moves the value forward.
+            long state = Math.max(nowSeconds << SEQUENCE_BITS, lastState + 1);
+            if (jdbcTemplate != null && (state >= reservedState || System.nanoTime() - leaseValidUntil >= 0)) {
+                renew();
+                state = Math.max(nowSeconds << SEQUENCE_BITS, lastState + 1);
+                if (state >= reservedState) {
+                    throw new IllegalStateException("Ticket codes are temporarily unavailable, please retry");
+                }
+            }
+            lastState = state;
+
+            long seconds = state >>> SEQUENCE_BITS;
+            long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+            return encode((seconds << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Renew the node id lease and move the reservation ahead
+     */
+    @Scheduled(fixedDelayString = "${application.tickets.node-lease-renew-interval:PT20S}",
+            initialDelayString = "${application.tickets.node-lease-renew-interval:PT20S}")
+    public void renewLease() {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            log.warn("Could not renew ticket node lease {}: {}", nodeId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (jdbcTemplate == null || nodeId < 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(RELEASE_SQL, nodeId, holder);
+        } catch (RuntimeException e) {
+            log.debug("Could not release ticket node lease {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Canonical form of a scanned code: upper case, without separators, Crockford aliases resolved
+     */
+    public static String normalize(String code) {
+        var trimmed = code.trim().toUpperCase(Locale.ROOT);
+        if (!trimmed.startsWith(PREFIX)) {
+            return trimmed;
+        }
+        var payload = new StringBuilder(PREFIX);
+        for (int i = PREFIX.length(); i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            int v = c < 128 ? VALUES[c] : -1;
+            // Legacy hex codes contain no aliases, so they pass through unchanged
+            payload.append(v >= 0 ? ALPHABET[v] : c);
+        }
+        return payload.toString();
+    }
+
+    /**
+     * Whether a normalized code has the current format and a valid check character
+     */
+    public static boolean isValid(String code) {
+        if (code.length() != CODE_LENGTH || !code.startsWith(PREFIX)) {
+            return false;
+        }
+        int[] digits = new int[PAYLOAD_CHARS];
+        for (int i = 0; i < PAYLOAD_CHARS; i++) {
+            char c = code.charAt(PREFIX.length() + i);
+            digits[i] = c < 128 ? VALUES[c] : -1;
+            if (digits[i] < 0) {
+                return false;
+            }
+        }
+        char check = code.charAt(CODE_LENGTH - 1);
+        return check < 128 && VALUES[check] == checkDigit(digits);
+    }
+
+    /**
+     * Codes issued before this generator existed (TKT- plus 8 hex characters)
+     */
+    public static boolean isLegacy(String code) {
+        return code.length() == LEGACY_CODE_LENGTH && code.startsWith(PREFIX);
+    }
+
+    /**
+     * 60-bit value as a code with its check character
+     */
+    static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), code, 0);
+        int[] digits = new int[PAYLOAD_CHARS];
+        for (int i = PAYLOAD_CHARS - 1; i >= 0; i--) {
+            digits[i] = (int) (value & 31);
+            value >>>= 5;
+        }
+        for (int i = 0; i < PAYLOAD_CHARS; i++) {
+            code[PREFIX.length() + i] = ALPHABET[digits[i]];
+        }
+        code[CODE_LENGTH - 1] = ALPHABET[checkDigit(digits)];
+        return new String(code);
+    }
+
+    /**
+     * 60-bit value of a valid normalized code
+     */
+    static long decode(String code) {
+        if (!isValid(code)) {
+            throw new IllegalArgumentException("Invalid ticket code: " + code);
+        }
+        long value = 0;
+        for (int i = 0; i < PAYLOAD_CHARS; i++) {
+            value = (value << 5) | VALUES[code.charAt(PREFIX.length() + i)];
+        }
+        return value;
+    }
+
+    static int nodeIdOf(long value) {
+        return (int) (value >>> SEQUENCE_BITS) & (NODE_COUNT - 1);
+    }
+
+    // Helper methods
+
+    /**
+     * Take over a free or expired node id, starting at a random one so instances starting
+     * together do not race for the same ids
+     */
+    private void acquire() {
+        int start = ThreadLocalRandom.current().nextInt(NODE_COUNT);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            int candidate = (start + i) % NODE_COUNT;
+            var floor = jdbcTemplate.queryForList(ACQUIRE_SQL, Long.class, candidate, holder, leaseSeconds());
+            if (!floor.isEmpty()) {
+                nodeId = candidate;
+                lastState = floor.get(0);
+                reservedState = 0;
+                if (!extend()) {
+                    throw new IllegalStateException("Lost ticket node id " + candidate + " while leasing it");
+                }
+                log.info("Ticket code generator leased node id {}", nodeId);
+                return;
+            }
+        }
+        throw new IllegalStateException("No free ticket node id, all " + NODE_COUNT + " are leased");
+    }
+
+    /**
+     * Renew the current lease, or lease another node id if it was taken over meanwhile
+     */
+    private void renew() {
+        if (nodeId >= 0 && extend()) {
+            return;
+        }
+        log.warn("Ticket node lease {} was lost, leasing another node id", nodeId);
+        acquire();
+    }
+
+    /**
+     * Extend the lease and reserve the states of the next two lease periods
+     */
+    private boolean extend() {
+        long startedAt = System.nanoTime();
+        long nowSeconds = Math.max(0, Instant.now().getEpochSecond() - EPOCH_SECONDS);
+        long reserve = Math.max(nowSeconds << SEQUENCE_BITS, lastState + 1) + ((2 * leaseTtl.toSeconds()) << SEQUENCE_BITS);
+        if (jdbcTemplate.update(RENEW_SQL, leaseSeconds(), reserve, nodeId, holder) == 0) {
+            return false;
+        }
+        reservedState = reserve;
+        leaseValidUntil = startedAt + leaseTtl.toNanos();
+        return true;
+    }
+
+    private double leaseSeconds() {
+        return leaseTtl.toMillis() / 1000.0;
+    }
+
+    /**
+     * Luhn mod N check digit. Catches every single-character error and every adjacent
+     * transposition except 0 and Z (values 0 and 31) swapped, which keeps the same sum
+     */
+    private static int checkDigit(int[] digits) {
+        int factor = 2;
+        int sum = 0;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int addend = factor * digits[i];
+            factor = factor == 2 ? 1 : 2;
+            sum += addend / 32 + addend % 32;
+        }
+        return (32 - sum % 32) % 32;
+    }
+}
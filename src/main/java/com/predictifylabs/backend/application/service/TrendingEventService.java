@@ -0,0 +1,209 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventDTO;
+import com.predictifylabs.backend.infrastructure.scheduling.JobLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Trending ranking of upcoming published events.
+ * Every minute the view, interest and registration counters are diffed against the
+ * previous run; the deltas are added to an exponentially decayed score, so an event
+ * trends while its activity is recent and fades with the configured half-life.
+ * The top N are served from an immutable snapshot, and the is_trending flag is
+ * synchronized with one UPDATE that only touches rows whose flag changes. Scores are
+ * kept per instance, so only the holder of the trending lease writes the flag; other
+ * instances would otherwise flip it back and forth, bumping updated_at every minute.
+ */
+@Service
+@Slf4j
+public class TrendingEventService {
+
+    private static final String COUNTERS_SQL = """
+            SELECT id, status, views_count, interested_count, registered_count
+            FROM events WHERE start_date >= CURRENT_DATE
+            """;
+
+    /**
+     * Recent activity replayed with its age-based decay, so a restart does not reset the ranking.
+     * Views have no timestamps and only count from the first refresh on.
+     */
+    private static final String SEED_SQL = """
+            SELECT event_id, SUM(weight) FROM (
+                SELECT r.event_id, ? * EXP(-LN(2) * EXTRACT(EPOCH FROM NOW() - r.registered_at) / ?) AS weight
+                FROM event_registrations r
+                WHERE r.registered_at > NOW() - make_interval(secs => ? * 4) AND r.status <> 'cancelled'
+                UNION ALL
+                SELECT i.event_id, ? * EXP(-LN(2) * EXTRACT(EPOCH FROM NOW() - i.created_at) / ?)
+                FROM event_interested i
+                WHERE i.created_at > NOW() - make_interval(secs => ? * 4)
+            ) activity
+            GROUP BY event_id
+            """;
+
+    /**
+     * Only visits currently flagged rows (partial index) and the new top N (primary key),
+     * and only writes rows whose flag actually changes
+     */
+    private static final String SYNC_FLAG_SQL = """
+            UPDATE events SET is_trending = (id = ANY(?))
+            WHERE (is_trending = TRUE OR id = ANY(?)) AND is_trending <> (id = ANY(?))
+            """;
+
+    private static final String FLAG_LEASE = "trending-flag";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventService eventService;
+    private final JobLease jobLease;
+    private final Duration leaseTtl;
+    private final int topN;
+    private final double halfLifeSeconds;
+    private final double minScore;
+    private final double viewWeight;
+    private final double interestWeight;
+    private final double registrationWeight;
+
+    private final Map<UUID, Counters> previous = new HashMap<>();
+    private final Map<UUID, Double> scores = new HashMap<>();
+    private final AtomicReference<Ranking> current = new AtomicReference<>(new Ranking(List.of(), null));
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private long lastRefreshNanos;
+
+    public TrendingEventService(
+            JdbcTemplate jdbcTemplate,
+            EventService eventService,
+            JobLease jobLease,
+            @Value("${application.trending.refresh-interval:PT1M}") Duration refreshInterval,
+            @Value("${application.trending.top-n:20}") int topN,
+            @Value("${application.trending.half-life:PT6H}") Duration halfLife,
+            @Value("${application.trending.min-score:1.0}") double minScore,
+            @Value("${application.trending.weights.views:1.0}") double viewWeight,
+            @Value("${application.trending.weights.interest:3.0}") double interestWeight,
+            @Value("${application.trending.weights.registrations:5.0}") double registrationWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventService = eventService;
+        this.jobLease = jobLease;
+        // A missed renewal or two does not hand the flag to another instance
+        this.leaseTtl = refreshInterval.multipliedBy(3);
+        this.topN = topN;
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.minScore = minScore;
+        this.viewWeight = viewWeight;
+        this.interestWeight = interestWeight;
+        this.registrationWeight = registrationWeight;
+    }
+
+    private record Counters(int views, int interested, int registered) {}
+
+    private record Ranking(List<EventDTO> events, OffsetDateTime computedAt) {}
+
+    /**
+     * Trending events, best first; served from memory
+     */
+    public List<EventDTO> getTrendingEvents() {
+        return current.get().events();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            jdbcTemplate.query(SEED_SQL, rs -> {
+                scores.put(rs.getObject(1, UUID.class), rs.getDouble(2));
+            }, registrationWeight, halfLifeSeconds, halfLifeSeconds,
+                    interestWeight, halfLifeSeconds, halfLifeSeconds);
+        } catch (RuntimeException e) {
+            log.warn("Could not seed trending scores, starting from zero: {}", e.getMessage());
+        }
+        refresh();
+    }
+
+    /**
+     * Decay scores, add the activity since the previous run and publish a new ranking
+     */
+    @Scheduled(fixedDelayString = "${application.trending.refresh-interval:PT1M}",
+            initialDelayString = "${application.trending.refresh-interval:PT1M}")
+    public void refresh() {
+        refreshLock.lock();
+        long startedAt = System.nanoTime();
+        try {
+            double decay = lastRefreshNanos == 0 ? 1
+                    : Math.pow(0.5, (startedAt - lastRefreshNanos) / 1e9 / halfLifeSeconds);
+            lastRefreshNanos = startedAt;
+
+            Map<UUID, Counters> counters = new HashMap<>();
+            jdbcTemplate.query(COUNTERS_SQL, rs -> {
+                if ("PUBLISHED".equalsIgnoreCase(rs.getString("status"))) {
+                    counters.put(rs.getObject("id", UUID.class), new Counters(
+                            rs.getInt("views_count"), rs.getInt("interested_count"), rs.getInt("registered_count")));
+                }
+            });
+
+            Map<UUID, Double> next = new HashMap<>(counters.size() * 2);
+            counters.forEach((id, now) -> {
+                double score = scores.getOrDefault(id, 0.0) * decay;
+                var before = previous.get(id);
+                if (before != null) {
+                    score += viewWeight * Math.max(0, now.views() - before.views())
+                            + interestWeight * Math.max(0, now.interested() - before.interested())
+                            + registrationWeight * Math.max(0, now.registered() - before.registered());
+                }
+                if (score > 1e-3) {
+                    next.put(id, score);
+                }
+            });
+            previous.clear();
+            previous.putAll(counters);
+            scores.clear();
+            scores.putAll(next);
+
+            var top = next.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= minScore)
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue(Comparator.reverseOrder()))
+                    .limit(topN)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            if (jobLease.tryAcquire(FLAG_LEASE, leaseTtl)) {
+                syncTrendingFlag(top);
+            }
+            current.set(new Ranking(eventService.getEventsByIds(top), OffsetDateTime.now()));
+            log.debug("Trending ranking refreshed: {} scored events, top {} in {} ms",
+                    next.size(), top.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh trending ranking, keeping the current one: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Helper methods
+    private void syncTrendingFlag(List<UUID> trendingIds) {
+        int changed = jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(SYNC_FLAG_SQL);
+            var ids = con.createArrayOf("uuid", trendingIds.toArray());
+            ps.setArray(1, ids);
+            ps.setArray(2, ids);
+            ps.setArray(3, ids);
+            return ps;
+        });
+        if (changed > 0) {
+            log.info("Updated is_trending on {} events", changed);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardRegistrationDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.UserDashboardDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventInterestedRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.EventRegistrationRepository;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.SavedEventRepository;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus.LocalCache;
+import com.predictifylabs.backend.infrastructure.config.ReadReplicaRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "My events" dashboard.
+ * Built from three projection queries (registrations, saved, interested) regardless of
+ * how many events the user has, and cached per user until one of their registrations,
+ * saved or interested events, or an event on the dashboard changes. Invalidations go
+ * through the {@link CacheInvalidationBus}, so they reach every instance. Refills read
+ * from the primary: a replica behind the invalidating commit would otherwise put the
+ * stale dashboard back in the cache for the whole TTL.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class UserDashboardService {
+
+    private static final String USER_NAMESPACE = "dashboard.user";
+    private static final String EVENT_NAMESPACE = "dashboard.event";
+
+    private final EventRegistrationRepository registrationRepository;
+    private final SavedEventRepository savedEventRepository;
+    private final EventInterestedRepository eventInterestedRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<UUID, CachedDashboard> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Orders loads and invalidations; a load never overwrites a newer invalidation
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    public UserDashboardService(
+            EventRegistrationRepository registrationRepository,
+            SavedEventRepository savedEventRepository,
+            EventInterestedRepository eventInterestedRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${application.dashboard.cache-ttl:PT5M}") Duration ttl,
+            @Value("${application.dashboard.cache-max-entries:10000}") int maxEntries) {
+        this.registrationRepository = registrationRepository;
+        this.savedEventRepository = savedEventRepository;
+        this.eventInterestedRepository = eventInterestedRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        cacheInvalidationBus.register(USER_NAMESPACE, LocalCache.of(id -> dropUser(UUID.fromString(id)), this::dropAll));
+        cacheInvalidationBus.register(EVENT_NAMESPACE, LocalCache.of(id -> dropEvent(UUID.fromString(id)), this::dropAll));
+    }
+
+    /**
+     * Get the dashboard of a user, from cache when possible
+     */
+    public UserDashboardDTO getDashboard(UUID userId) {
+        long now = System.currentTimeMillis();
+        var cached = cache.get(userId);
+        if (cached != null && cached.dashboard != null && cached.expiresAt > now) {
+            return cached.dashboard;
+        }
+
+        long stamp = clock.get();
+        var dashboard = ReadReplicaRouter.onPrimary(() -> load(userId));
+        var eventIds = new HashSet<UUID>();
+        dashboard.upcoming().forEach(row -> eventIds.add(row.eventId()));
+        dashboard.past().forEach(row -> eventIds.add(row.eventId()));
+        dashboard.saved().forEach(row -> eventIds.add(row.eventId()));
+        dashboard.interested().forEach(row -> eventIds.add(row.eventId()));
+
+        if (cache.size() >= maxEntries) {
+            evictExpired();
+        }
+        if (cache.size() < maxEntries) {
+            var entry = new CachedDashboard(dashboard, eventIds, stamp, now + ttlMillis);
+            cache.merge(userId, entry, (existing, loaded) -> existing.stamp > loaded.stamp ? existing : loaded);
+        }
+        return dashboard;
+    }
+
+    /**
+     * Drop the cached dashboard of a user once the current transaction commits
+     */
+    public void invalidateUser(UUID userId) {
+        cacheInvalidationBus.publish(USER_NAMESPACE, userId);
+    }
+
+    /**
+     * Drop every cached dashboard that shows the event once the current transaction commits
+     */
+    public void invalidateEvent(UUID eventId) {
+        cacheInvalidationBus.publish(EVENT_NAMESPACE, eventId);
+    }
+
+    @Scheduled(fixedDelayString = "${application.dashboard.cache-ttl:PT5M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    // Helper methods
+    private UserDashboardDTO load(UUID userId) {
+        var today = LocalDate.now();
+        var registrations = registrationRepository.findDashboardRowsByUserId(userId);
+        List<DashboardRegistrationDTO> upcoming = new ArrayList<>();
+        List<DashboardRegistrationDTO> past = new ArrayList<>();
+        for (var row : registrations) {
+            if (row.startDate() != null && row.startDate().isBefore(today)) {
+                past.add(row);
+            } else {
+                upcoming.add(row);
+            }
+        }
+        // Rows come ordered by start date; past events are shown most recent first
+        Collections.reverse(past);
+        List<DashboardEventDTO> saved = savedEventRepository.findDashboardRowsByUserId(userId);
+        List<DashboardEventDTO> interested = eventInterestedRepository.findDashboardRowsByUserId(userId);
+        log.debug("Loaded dashboard of user {}: {} registrations, {} saved, {} interested",
+                userId, registrations.size(), saved.size(), interested.size());
+
+        return UserDashboardDTO.builder()
+                .upcoming(upcoming)
+                .past(past)
+                .saved(saved)
+                .interested(interested)
+                .generatedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private void dropUser(UUID userId) {
+        cache.put(userId, CachedDashboard.invalidated(clock.incrementAndGet(), ttlMillis));
+    }
+
+    private void dropEvent(UUID eventId) {
+        long stamp = clock.incrementAndGet();
+        cache.replaceAll((userId, entry) -> entry.eventIds.contains(eventId)
+                ? CachedDashboard.invalidated(stamp, ttlMillis)
+                : entry);
+    }
+
+    private void dropAll() {
+        long stamp = clock.incrementAndGet();
+        cache.replaceAll((userId, entry) -> CachedDashboard.invalidated(stamp, ttlMillis));
+    }
+
+    /**
+     * Cache entry; an invalidated entry has no dashboard and only blocks older loads
+     */
+    private record CachedDashboard(UserDashboardDTO dashboard, Set<UUID> eventIds, long stamp, long expiresAt) {
+
+        static CachedDashboard invalidated(long stamp, long ttlMillis) {
+            return new CachedDashboard(null, Set.of(), stamp, System.currentTimeMillis() + ttlMillis);
+        }
+    }
+}
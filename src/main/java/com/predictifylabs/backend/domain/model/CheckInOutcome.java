@@ -0,0 +1,12 @@
+package com.predictifylabs.backend.domain.model;
+
+/**
+ * Result of scanning a ticket at the venue door
+ */
+public enum CheckInOutcome {
+    ACCEPTED, // First valid scan, attendance recorded
+    DUPLICATE, // Ticket was already checked in
+    CANCELLED, // Registration was cancelled
+    UNKNOWN, // No registration with this ticket code for the event
+    INVALID // Malformed code or failed checksum, rejected without a lookup
+}
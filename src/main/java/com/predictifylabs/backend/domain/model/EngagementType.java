@@ -0,0 +1,9 @@
+package com.predictifylabs.backend.domain.model;
+
+/**
+ * Lightweight ways a user can follow an event without registering
+ */
+public enum EngagementType {
+    SAVED, // Bookmarked, stored in saved_events
+    INTERESTED // Marked as interested, stored in event_interested and counted in interested_count
+}
@@ -0,0 +1,38 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
+
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher.CatalogList;
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher.Snapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * Builds responses straight from pre-serialized catalog snapshots.
+ * The ETag and Last-Modified headers let Spring answer conditional requests with 304,
+ * and the gzip variant is sent as is to clients accepting it.
+ */
+final class CatalogSnapshotResponses {
+
+    static final String SURROGATE_KEY = "Surrogate-Key";
+
+    private CatalogSnapshotResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(Snapshot snapshot, CatalogList list, String acceptEncoding, CacheControl cacheControl) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .eTag(snapshot.etag())
+                .lastModified(snapshot.lastModified())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .header(SURROGATE_KEY, list.surrogateKey());
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+}
@@ -0,0 +1,105 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
+
+import com.predictifylabs.backend.application.service.CheckInService;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.BulkCheckInRequestDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.BulkCheckInResultDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInResultDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInScanDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin.CheckInStatsDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for event-day ticket check-in (organizer only)
+ */
+@RestController
+@RequestMapping("/api/v1/events/{eventId}/check-in")
+@RequiredArgsConstructor
+@Tag(name = "Check-in", description = "Ticket scanning and offline scanner sync endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class CheckInController {
+
+    private final CheckInService checkInService;
+
+    @PostMapping("/open")
+    @Operation(summary = "Open check-in", description = "Loads (or reloads) the ticket index of the event before doors open")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ticket index loaded"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CheckInStatsDTO> openCheckIn(
+            @PathVariable UUID eventId,
+            Authentication auth) {
+        return ResponseEntity.ok(checkInService.openCheckIn(eventId, auth.getName(), isAdmin(auth)));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get check-in progress", description = "Returns the number of tickets, check-ins and attendee recounts still pending")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Check-in progress retrieved"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CheckInStatsDTO> getStats(
+            @PathVariable UUID eventId,
+            Authentication auth) {
+        return ResponseEntity.ok(checkInService.getStats(eventId, auth.getName(), isAdmin(auth)));
+    }
+
+    @PostMapping("/scan")
+    @Operation(summary = "Scan a ticket", description = "Validates a ticket code at the door. The outcome is ACCEPTED, DUPLICATE, CANCELLED, UNKNOWN or INVALID")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Scan processed, see outcome"),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CheckInResultDTO> scan(
+            @PathVariable UUID eventId,
+            @RequestBody @Valid CheckInScanDTO dto,
+            Authentication auth) {
+        return ResponseEntity.ok(checkInService.scan(eventId, dto.ticketCode(), auth.getName(), isAdmin(auth)));
+    }
+
+    @PostMapping("/sync")
+    @Operation(summary = "Sync offline scans", description = "Uploads scans recorded while a scanner was offline. The earliest scan of each ticket wins")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Scans processed"),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkCheckInResultDTO> syncScans(
+            @PathVariable UUID eventId,
+            @RequestBody @Valid BulkCheckInRequestDTO dto,
+            Authentication auth) {
+        return ResponseEntity.ok(checkInService.syncScans(eventId, dto.scans(), auth.getName(), isAdmin(auth)));
+    }
+
+    private boolean isAdmin(Authentication auth) {
+        return auth.getAuthorities().stream().anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
@@ -1,28 +1,53 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
 
+import com.predictifylabs.backend.application.service.EventFacetIndex;
+import com.predictifylabs.backend.application.service.EventFieldsetService;
+import com.predictifylabs.backend.application.service.EventImportService;
 import com.predictifylabs.backend.application.service.EventService;
+import com.predictifylabs.backend.application.service.NearbyEventIndex;
+import com.predictifylabs.backend.application.service.ResourceVersionService;
+import com.predictifylabs.backend.application.service.TrendingEventService;
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher;
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher.CatalogList;
+import com.predictifylabs.backend.domain.model.EventCategory;
+import com.predictifylabs.backend.domain.model.EventType;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.CreateEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventBrowseDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventImportReportDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.NearbyEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.TagDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.UpdateEventDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,76 +59,175 @@ import java.util.UUID;
 @Tag(name = "Events", description = "Event management endpoints")
 public class EventController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    static final String FIELDS_DESCRIPTION = "Comma-separated fields to return instead of the full event, "
+            + "e.g. id,title,slug,startDate,imageUrl,location.city (organizer and location select all their fields)";
+
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final NearbyEventIndex nearbyEventIndex;
+    private final EventFacetIndex eventFacetIndex;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final EventFieldsetService eventFieldsetService;
+    private final TrendingEventService trendingEventService;
+    private final ResourceVersionService resourceVersionService;
+    private final CacheControl publicCacheControl;
     private final UserRepository userRepository;
 
     @GetMapping
     @Operation(summary = "Get all upcoming events", description = "Returns all published upcoming events")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> getUpcomingEvents() {
-        return ResponseEntity.ok(eventService.getUpcomingEvents());
+    public ResponseEntity<?> getUpcomingEvents(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null) {
+            return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventFieldsetService.getUpcomingEvents(fields));
+        }
+        return snapshot(CatalogList.UPCOMING, acceptEncoding);
     }
 
     @GetMapping("/upcoming")
     @Operation(summary = "Get upcoming published events", description = "Alias for GET /events")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> getUpcoming() {
-        return ResponseEntity.ok(eventService.getUpcomingEvents());
+    public ResponseEntity<?> getUpcoming(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null) {
+            return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventFieldsetService.getUpcomingEvents(fields));
+        }
+        return snapshot(CatalogList.UPCOMING, acceptEncoding);
     }
 
     @GetMapping("/featured")
     @Operation(summary = "Get featured events", description = "Returns events marked as featured")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Featured events retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Featured events retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> getFeaturedEvents() {
-        return ResponseEntity.ok(eventService.getFeaturedEvents());
+    public ResponseEntity<?> getFeaturedEvents(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null) {
+            return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventFieldsetService.getFeaturedEvents(fields));
+        }
+        return snapshot(CatalogList.FEATURED, acceptEncoding);
     }
 
     @GetMapping("/trending")
-    @Operation(summary = "Get trending events", description = "Returns trending events based on registrations")
+    @Operation(summary = "Get trending events", description = "Returns upcoming events ranked by recent views, interest and registrations")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Trending events retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Trending events retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> getTrendingEvents() {
-        return ResponseEntity.ok(eventService.getTrendingEvents());
+    public ResponseEntity<?> getTrendingEvents(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null) {
+            return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventFieldsetService.getEventsByIds(trendingIds(), fields));
+        }
+        return snapshot(CatalogList.TRENDING, acceptEncoding);
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search events by keyword", description = "Searches events by title, description or category")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
-            @ApiResponse(responseCode = "400", description = "Missing keyword parameter", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Missing keyword parameter or unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<?> searchEvents(
+            @Parameter(description = "Search keyword", required = true) @RequestParam String keyword,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(eventFieldsetService.searchEvents(keyword, fields));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body((StreamingResponseBody) out -> eventService.writeSearchResults(keyword, out));
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Find events near a location", description = "Returns published upcoming events within a radius, closest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Nearby events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates, radius, date window or limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> searchEvents(
-            @Parameter(description = "Search keyword", required = true) @RequestParam String keyword) {
-        return ResponseEntity.ok(eventService.searchEvents(keyword));
+    public ResponseEntity<List<NearbyEventDTO>> getNearbyEvents(
+            @Parameter(description = "Latitude in degrees", required = true) @RequestParam double lat,
+            @Parameter(description = "Longitude in degrees", required = true) @RequestParam double lng,
+            @Parameter(description = "Search radius in km (max 200)") @RequestParam(defaultValue = "25") double radiusKm,
+            @Parameter(description = "First start date, defaults to today") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last start date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(nearbyEventIndex.findNearby(lat, lng, radiusKm, from, to, limit));
+    }
+
+    @GetMapping("/browse")
+    @Operation(summary = "Browse events by facets", description = "Filters upcoming events by tags (all must match), category, type and city, and returns counts for every facet value of the result")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Events and facet counts retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or paging parameters", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<EventBrowseDTO> browseEvents(
+            @Parameter(description = "Tag slugs, comma separated") @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false) EventCategory category,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventFacetIndex.browse(tags != null ? tags : Set.of(), category, type, city, page, size));
+    }
+
+    @GetMapping("/tags")
+    @Operation(summary = "Get tags", description = "Returns the tags used by upcoming events, most used first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tags retrieved successfully")
+    })
+    public ResponseEntity<List<TagDTO>> getTags() {
+        return ResponseEntity.ok(eventFacetIndex.getTags());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get event by ID", description = "Returns a single event by its UUID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Event retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Event not modified since the given ETag or date"),
             @ApiResponse(responseCode = "400", description = "Invalid UUID format", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<EventDTO> getEventById(@PathVariable UUID id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<EventDTO> getEventById(@PathVariable UUID id, WebRequest request) {
+        var version = resourceVersionService.getEventVersion(id);
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventService.getEventById(id));
     }
 
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Get event by slug", description = "Returns a single event by its URL-friendly slug")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Event retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Event not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<EventDTO> getEventBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(eventService.getEventBySlug(slug));
+    public ResponseEntity<EventDTO> getEventBySlug(@PathVariable String slug, WebRequest request) {
+        var version = resourceVersionService.getEventVersionBySlug(slug);
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(publicCacheControl).body(eventService.getEventById(version.id()));
     }
 
     @GetMapping("/my-events")
@@ -137,6 +261,27 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @Operation(summary = "Bulk import events", description = "Streams an NDJSON (one event per line) or CSV (header row, flattened location columns) upload and creates the events as drafts. Returns a per-row error report.")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import processed, see the report for rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Malformed upload", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "User is not an organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "415", description = "Content type must be application/x-ndjson or text/csv", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<EventImportReportDTO> importEvents(
+            HttpServletRequest request,
+            Authentication auth) throws IOException {
+        UUID userId = extractUserId(auth);
+        var format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(TEXT_CSV)
+                ? EventImportService.ImportFormat.CSV
+                : EventImportService.ImportFormat.NDJSON;
+        return ResponseEntity.ok(eventImportService.importEvents(request.getInputStream(), format, userId));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update an event", description = "Updates an existing event. Only the event organizer can update.")
     @SecurityRequirement(name = "bearerAuth")
@@ -222,4 +367,12 @@ public class EventController {
                 .orElseThrow(() -> new RuntimeException("User not found"))
                 .getId();
     }
+
+    private List<UUID> trendingIds() {
+        return trendingEventService.getTrendingEvents().stream().map(EventDTO::id).toList();
+    }
+
+    private ResponseEntity<byte[]> snapshot(CatalogList list, String acceptEncoding) {
+        return CatalogSnapshotResponses.of(catalogSnapshotPublisher.get(list), list, acceptEncoding, publicCacheControl);
+    }
 }
@@ -1,10 +1,14 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
 
 import com.predictifylabs.backend.application.service.EventRegistrationService;
+import com.predictifylabs.backend.application.service.RegistrationExportService;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.EventRegistrationDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.RegistrationPageDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,13 +16,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -31,7 +43,11 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class EventRegistrationController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
     private final EventRegistrationService registrationService;
+    private final RegistrationExportService exportService;
     private final UserRepository userRepository;
 
     @PostMapping("/{eventId}/register")
@@ -114,6 +130,63 @@ public class EventRegistrationController {
         return ResponseEntity.ok(registrationService.getEventRegistrations(eventId));
     }
 
+    @GetMapping("/{eventId}/registrations/page")
+    @Operation(summary = "List registrations (paginated)", description = "Returns a keyset-paginated, filterable page of the registrations of an event ordered by registration time (organizer or admin only)")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<RegistrationPageDTO> getEventRegistrationsPage(
+            @PathVariable UUID eventId,
+            @Parameter(description = "Registration status (registered, confirmed, cancelled, waitlist)") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by attendance") @RequestParam(required = false) Boolean attended,
+            @Parameter(description = "Registered at or after (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @Parameter(description = "Registered before (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-200)") @RequestParam(defaultValue = "50") int size,
+            Authentication auth) {
+        UUID userId = extractUserId(auth);
+        return ResponseEntity.ok(registrationService.getEventRegistrationsPage(
+                eventId, userId, isAdmin(auth), status, attended, from, to, cursor, size));
+    }
+
+    @GetMapping("/{eventId}/registrations/export")
+    @Operation(summary = "Export registrations", description = "Streams all registrations of an event as CSV or NDJSON (organizer or admin only)")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Not the event organizer", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @PathVariable UUID eventId,
+            @Parameter(description = "Export format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            Authentication auth) {
+        var exportFormat = switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> RegistrationExportService.ExportFormat.CSV;
+            case "ndjson" -> RegistrationExportService.ExportFormat.NDJSON;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+        UUID userId = extractUserId(auth);
+        exportService.verifyCanExport(eventId, userId, isAdmin(auth));
+
+        var csv = exportFormat == RegistrationExportService.ExportFormat.CSV;
+        // The body is written on an async thread; keep the export's cursor in this request's lane
+        var requestClass = DbConcurrencyGovernor.currentClass();
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("registrations-" + eventId + (csv ? ".csv" : ".ndjson"))
+                        .build().toString())
+                .body(out -> DbConcurrencyGovernor.runAs(requestClass,
+                        () -> exportService.exportRegistrations(eventId, exportFormat, out)));
+    }
+
     @PostMapping("/{eventId}/registrations/{userId}/attendance")
     @Operation(summary = "Mark attendance", description = "Marks a user as having attended the event (organizer only)")
     @PreAuthorize("isAuthenticated()")
@@ -130,6 +203,10 @@ public class EventRegistrationController {
         return ResponseEntity.ok(registration);
     }
 
+    private boolean isAdmin(Authentication auth) {
+        return auth.getAuthorities().stream().anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
     /**
      * Extract user ID from authentication
      */
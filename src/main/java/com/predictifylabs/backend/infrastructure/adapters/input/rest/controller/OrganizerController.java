@@ -1,5 +1,8 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
 
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher;
+import com.predictifylabs.backend.application.service.CatalogSnapshotPublisher.CatalogList;
+import com.predictifylabs.backend.application.service.EventFieldsetService;
 import com.predictifylabs.backend.application.service.EventService;
 import com.predictifylabs.backend.application.service.OrganizerService;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.EventDTO;
@@ -8,6 +11,8 @@ import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.organiz
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,13 +21,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,16 +44,22 @@ public class OrganizerController {
 
     private final OrganizerService organizerService;
     private final EventService eventService;
+    private final CatalogSnapshotPublisher catalogSnapshotPublisher;
+    private final EventFieldsetService eventFieldsetService;
+    private final CacheControl publicCacheControl;
     private final UserRepository userRepository;
 
     @GetMapping
     @Operation(summary = "Get all organizers", description = "Returns all registered organizers")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Organizers retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Organizers retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = OrganizerProfileDTO.class)))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<OrganizerProfileDTO>> getAllOrganizers() {
-        return ResponseEntity.ok(organizerService.getAllOrganizers());
+    public ResponseEntity<byte[]> getAllOrganizers(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var list = CatalogList.ORGANIZERS;
+        return CatalogSnapshotResponses.of(catalogSnapshotPublisher.get(list), list, acceptEncoding, publicCacheControl);
     }
 
     @GetMapping("/{id}")
@@ -62,11 +76,20 @@ public class OrganizerController {
     @GetMapping("/{id}/events")
     @Operation(summary = "Get events by organizer", description = "Returns all events created by the specified organizer")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Events retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Organizer not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<EventDTO>> getOrganizerEvents(@PathVariable UUID id) {
-        return ResponseEntity.ok(eventService.getEventsByOrganizer(id));
+    public ResponseEntity<?> getOrganizerEvents(
+            @PathVariable UUID id,
+            @Parameter(description = EventController.FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(eventFieldsetService.getEventsByOrganizer(id, fields));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body((StreamingResponseBody) out -> eventService.writeEventsByOrganizer(id, out));
     }
 
     @GetMapping("/me")
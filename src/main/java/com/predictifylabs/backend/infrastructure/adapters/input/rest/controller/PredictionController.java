@@ -1,9 +1,18 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
 
+import com.predictifylabs.backend.application.service.PredictionBacktestService;
+import com.predictifylabs.backend.application.service.PredictionEngine;
+import com.predictifylabs.backend.application.service.PredictionFactorCatalog;
+import com.predictifylabs.backend.application.service.PredictionHistoryService;
 import com.predictifylabs.backend.application.service.PredictionService;
+import com.predictifylabs.backend.application.service.ResourceVersionService;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.BacktestReportDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.FactorWeightsDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.PredictionDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction.PredictionHistoryDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,10 +20,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
@@ -27,20 +42,33 @@ import java.util.UUID;
 public class PredictionController {
 
     private final PredictionService predictionService;
+    private final PredictionBacktestService backtestService;
+    private final PredictionHistoryService historyService;
+    private final PredictionFactorCatalog factorCatalog;
+    private final ResourceVersionService resourceVersionService;
+    private final CacheControl publicCacheControl;
 
     @GetMapping("/events/{eventId}")
     @Operation(summary = "Get prediction for an event", description = "Returns the attendance prediction for a specific event")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Prediction retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Prediction not modified since the given ETag or date"),
             @ApiResponse(responseCode = "400", description = "Invalid UUID format", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Prediction not found for this event", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<PredictionDTO> getEventPrediction(@PathVariable UUID eventId) {
+    public ResponseEntity<PredictionDTO> getEventPrediction(@PathVariable UUID eventId, WebRequest request) {
+        var version = resourceVersionService.getPredictionVersion(eventId);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return null;
+        }
         var prediction = predictionService.getEventPrediction(eventId);
         if (prediction == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(prediction);
+        return ResponseEntity.ok().cacheControl(publicCacheControl).body(prediction);
     }
 
     @PostMapping("/events/{eventId}/generate")
@@ -58,6 +86,19 @@ public class PredictionController {
         return ResponseEntity.ok(prediction);
     }
 
+    @GetMapping("/events/{eventId}/history")
+    @Operation(summary = "Get prediction history", description = "Returns the prediction time series of an event for charts. Recent points are at full resolution, older ones are daily")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid UUID format or days out of range", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PredictionHistoryDTO> getPredictionHistory(
+            @PathVariable UUID eventId,
+            @Parameter(description = "Number of days to include (1-365)") @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(historyService.getHistory(eventId, days));
+    }
+
     @GetMapping("/events/{eventId}/insight")
     @Operation(summary = "Get AI insight", description = "Returns an AI-generated textual insight about the event prediction")
     @ApiResponses({
@@ -69,4 +110,62 @@ public class PredictionController {
         var insight = predictionService.generatePredictionInsight(eventId);
         return ResponseEntity.ok(insight);
     }
+
+    @PostMapping("/backtest")
+    @Operation(summary = "Backtest the prediction engine", description = "Replays completed events through the prediction engine and reports MAE, MAPE and calibration per prediction level (admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasPermission(null, 'predictions.configure')")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Backtest completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin role required", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BacktestReportDTO> runBacktest(
+            @Parameter(description = "First event start date to include (default: one year ago)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last event start date to include (default: today)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Only replay snapshots taken at least this many days before the event") @RequestParam(defaultValue = "0") int minLeadDays) {
+        return ResponseEntity.ok(backtestService.runBacktest(from, to, minLeadDays));
+    }
+
+    @GetMapping("/factors")
+    @Operation(summary = "Get factor weights", description = "Returns the factor weights snapshot currently used by the prediction engine (admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasPermission(null, 'predictions.configure')")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Factor weights retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin role required", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<FactorWeightsDTO> getFactorWeights() {
+        return ResponseEntity.ok(toDTO(factorCatalog.current()));
+    }
+
+    @PostMapping("/factors/reload")
+    @Operation(summary = "Reload factor weights", description = "Reloads the factor weights from prediction_factors_catalog without a redeploy (admin only)")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasPermission(null, 'predictions.configure')")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Factor weights reloaded successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin role required", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<FactorWeightsDTO> reloadFactorWeights() {
+        return ResponseEntity.ok(toDTO(factorCatalog.reload()));
+    }
+
+    private FactorWeightsDTO toDTO(PredictionFactorCatalog.Weights weights) {
+        return FactorWeightsDTO.builder()
+                .version(weights.version())
+                .loadedAt(weights.loadedAt())
+                .factors(Arrays.stream(PredictionEngine.Factor.values())
+                        .map(factor -> FactorWeightsDTO.FactorWeight.builder()
+                                .id(factor.getCatalogId())
+                                .name(factor.getDisplayName())
+                                .weight(BigDecimal.valueOf(weights.weight(factor)))
+                                .active(weights.isActive(factor))
+                                .build())
+                        .toList())
+                .build();
+    }
 }
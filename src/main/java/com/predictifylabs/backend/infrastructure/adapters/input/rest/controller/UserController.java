@@ -1,9 +1,17 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.controller;
 
+import com.predictifylabs.backend.application.service.EventEngagementService;
 import com.predictifylabs.backend.application.service.EventRegistrationService;
+import com.predictifylabs.backend.application.service.RecommendationService;
+import com.predictifylabs.backend.application.service.UserDashboardService;
 import com.predictifylabs.backend.application.service.UserService;
+import com.predictifylabs.backend.domain.model.EngagementType;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event.RecommendedEventDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration.EventRegistrationDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.EngagementStateDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.EngagementUpdateDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.UpdateUserDTO;
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.UserDashboardDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.UserDTO;
 import com.predictifylabs.backend.infrastructure.adapters.input.rest.exception.ErrorResponse;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
@@ -36,6 +44,9 @@ public class UserController {
 
     private final UserService userService;
     private final EventRegistrationService registrationService;
+    private final UserDashboardService userDashboardService;
+    private final EventEngagementService engagementService;
+    private final RecommendationService recommendationService;
     private final UserRepository userRepository;
 
     @GetMapping("/me")
@@ -79,6 +90,77 @@ public class UserController {
         return ResponseEntity.ok(registrationService.getUserRegistrations(userId));
     }
 
+    @GetMapping("/me/dashboard")
+    @Operation(summary = "Get current user's events dashboard", description = "Returns upcoming and past registrations, saved events and interested events of the authenticated user")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UserDashboardDTO> getMyDashboard(Authentication auth) {
+        UUID userId = extractUserId(auth);
+        return ResponseEntity.ok(userDashboardService.getDashboard(userId));
+    }
+
+    @GetMapping("/me/recommendations")
+    @Operation(summary = "Get recommended events", description = "Returns upcoming events ranked against the interests, preferences and past registrations of the authenticated user")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recommendations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<RecommendedEventDTO>> getMyRecommendations(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication auth) {
+        UUID userId = extractUserId(auth);
+        return ResponseEntity.ok(recommendationService.getRecommendations(userId, limit));
+    }
+
+    @GetMapping("/me/engagement")
+    @Operation(summary = "Get current user's saved and interested events", description = "Returns the ids of the events the authenticated user saved or marked as interested")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Saved and interested events retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<EngagementStateDTO> getMyEngagement(Authentication auth) {
+        UUID userId = extractUserId(auth);
+        return ResponseEntity.ok(engagementService.getState(userId));
+    }
+
+    @PutMapping("/me/saved-events")
+    @Operation(summary = "Save or unsave events", description = "Sets (active = true) or clears the saved flag on a list of events. Idempotent; the flags are stored before the response")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Update stored"),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Void> updateSavedEvents(
+            @RequestBody @Valid EngagementUpdateDTO dto,
+            Authentication auth) {
+        UUID userId = extractUserId(auth);
+        engagementService.update(userId, EngagementType.SAVED, dto.eventIds(), dto.active());
+        return ResponseEntity.accepted().build();
+    }
+
+    @PutMapping("/me/interested-events")
+    @Operation(summary = "Mark or unmark events as interested", description = "Sets (active = true) or clears the interested flag on a list of events. Idempotent; the flags are stored before the response, the interested counters follow within a few seconds")
+    @PreAuthorize("isAuthenticated()")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Update stored"),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Void> updateInterestedEvents(
+            @RequestBody @Valid EngagementUpdateDTO dto,
+            Authentication auth) {
+        UUID userId = extractUserId(auth);
+        engagementService.update(userId, EngagementType.INTERESTED, dto.eventIds(), dto.active());
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Returns a user by their ID (admin only)")
     @PreAuthorize("hasRole('ADMIN')")
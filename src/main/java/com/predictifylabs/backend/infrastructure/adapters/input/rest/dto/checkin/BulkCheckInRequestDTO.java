@@ -0,0 +1,16 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for uploading scans recorded by an offline scanner
+ */
+public record BulkCheckInRequestDTO(
+    @NotEmpty(message = "At least one scan is required")
+    @Size(max = 5000, message = "At most 5000 scans per upload")
+    List<@Valid CheckInScanDTO> scans
+) {}
@@ -0,0 +1,16 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO for the result of an offline scan upload
+ */
+@Builder
+public record BulkCheckInResultDTO(
+    int accepted,
+    int duplicates,
+    int rejected,
+    List<CheckInResultDTO> results
+) {}
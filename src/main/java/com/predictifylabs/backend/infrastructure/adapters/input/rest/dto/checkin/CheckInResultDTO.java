@@ -0,0 +1,19 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin;
+
+import com.predictifylabs.backend.domain.model.CheckInOutcome;
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for the result of a ticket scan
+ */
+@Builder
+public record CheckInResultDTO(
+    String ticketCode,
+    CheckInOutcome outcome,
+    UUID registrationId,
+    String attendeeName,
+    OffsetDateTime checkedInAt
+) {}
@@ -0,0 +1,16 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.OffsetDateTime;
+
+/**
+ * DTO for a single ticket scan.
+ * scannedAt is only needed for scans recorded offline and uploaded later.
+ */
+public record CheckInScanDTO(
+    @NotBlank(message = "Ticket code is required")
+    String ticketCode,
+
+    OffsetDateTime scannedAt
+) {}
@@ -0,0 +1,18 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.checkin;
+
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for the state of the check-in index of an event
+ */
+@Builder
+public record CheckInStatsDTO(
+    UUID eventId,
+    int tickets,
+    int checkedIn,
+    int pendingFlush,
+    OffsetDateTime loadedAt
+) {}
@@ -0,0 +1,19 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of upcoming events matching the selected facets, with counts per facet value.
+ * Facet keys: tags, category, type, city.
+ */
+@Builder
+public record EventBrowseDTO(
+    Integer total,
+    Integer page,
+    Integer size,
+    List<EventSummaryDTO> items,
+    Map<String, List<FacetCountDTO>> facets
+) {}
@@ -0,0 +1,29 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk event import
+ */
+@Builder
+public record EventImportReportDTO(
+    String format,
+    int totalRows,
+    int imported,
+    int failed,
+    boolean errorsTruncated,
+    List<RowError> errors,
+    long durationMs
+) {
+    /**
+     * Rejected row, identified by the line where it starts in the uploaded file
+     */
+    @Builder
+    public record RowError(
+        long line,
+        String title,
+        String message
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import com.predictifylabs.backend.domain.model.EventType;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact event card for browse listings
+ */
+@Builder
+public record EventSummaryDTO(
+    UUID id,
+    String title,
+    String slug,
+    String imageUrl,
+    EventCategory category,
+    EventType type,
+    String city,
+    List<String> tags,
+    LocalDate startDate,
+    LocalTime startTime
+) {}
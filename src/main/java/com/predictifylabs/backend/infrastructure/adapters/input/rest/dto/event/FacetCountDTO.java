@@ -0,0 +1,13 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import lombok.Builder;
+
+/**
+ * Number of matching events having a facet value
+ */
+@Builder
+public record FacetCountDTO(
+    String value,
+    String label,
+    Integer count
+) {}
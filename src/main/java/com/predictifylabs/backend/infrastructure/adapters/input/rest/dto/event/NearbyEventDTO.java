@@ -0,0 +1,27 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Upcoming event close to a point, with its distance
+ */
+@Builder
+public record NearbyEventDTO(
+    UUID id,
+    String title,
+    String slug,
+    String imageUrl,
+    EventCategory category,
+    LocalDate startDate,
+    LocalTime startTime,
+    String venue,
+    String city,
+    Double latitude,
+    Double longitude,
+    Double distanceKm
+) {}
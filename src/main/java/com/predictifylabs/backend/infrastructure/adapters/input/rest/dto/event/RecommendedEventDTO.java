@@ -0,0 +1,22 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import com.predictifylabs.backend.domain.model.EventCategory;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Upcoming event recommended to a user, with its relevance score
+ */
+@Builder
+public record RecommendedEventDTO(
+    UUID id,
+    String title,
+    String slug,
+    String imageUrl,
+    EventCategory category,
+    String city,
+    LocalDate startDate,
+    Double score
+) {}
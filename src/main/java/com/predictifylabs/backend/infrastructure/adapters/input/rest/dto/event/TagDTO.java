@@ -0,0 +1,13 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.event;
+
+import lombok.Builder;
+
+/**
+ * Tag with the number of upcoming events using it
+ */
+@Builder
+public record TagDTO(
+    String slug,
+    String name,
+    Integer upcomingCount
+) {}
@@ -4,6 +4,7 @@ import com.predictifylabs.backend.domain.model.EventCategory;
 import com.predictifylabs.backend.domain.model.EventStatus;
 import com.predictifylabs.backend.domain.model.EventType;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Null;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -31,6 +32,7 @@ public record UpdateEventDTO(
     Boolean isFree,
     String imageUrl,
     Boolean isFeatured,
+    @Null(message = "isTrending is computed from recent activity and cannot be set")
     Boolean isTrending,
     CreateEventLocationDTO location
 ) {}
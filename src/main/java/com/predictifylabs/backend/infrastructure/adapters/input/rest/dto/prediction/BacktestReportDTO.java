@@ -0,0 +1,30 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * DTO for prediction backtesting results.
+ * eventsWithoutHistory counts completed events skipped for lack of registration history in
+ * the lead window; snapshotsWithoutPercentageError counts snapshots of events nobody
+ * attended, which have no percentage error and are left out of the MAPE.
+ */
+@Builder
+public record BacktestReportDTO(
+    LocalDate fromDate,
+    LocalDate toDate,
+    int minLeadDays,
+    long weightsVersion,
+    int eventsEvaluated,
+    int eventsWithoutHistory,
+    long snapshotsEvaluated,
+    double meanAbsoluteError,
+    double meanAbsolutePercentageError,
+    long snapshotsWithoutPercentageError,
+    List<LevelCalibrationDTO> calibration,
+    long durationMs,
+    OffsetDateTime generatedAt
+) {}
@@ -0,0 +1,26 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * DTO for the factor weights snapshot used by the prediction engine
+ */
+@Builder
+public record FactorWeightsDTO(
+    long version,
+    OffsetDateTime loadedAt,
+    List<FactorWeight> factors
+) {
+
+    @Builder
+    public record FactorWeight(
+        String id,
+        String name,
+        BigDecimal weight,
+        boolean active
+    ) {}
+}
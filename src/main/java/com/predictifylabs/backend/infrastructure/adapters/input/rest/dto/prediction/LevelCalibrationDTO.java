@@ -0,0 +1,17 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction;
+
+import com.predictifylabs.backend.domain.model.PredictionLevel;
+import lombok.Builder;
+
+/**
+ * DTO for backtest calibration of a single prediction level
+ */
+@Builder
+public record LevelCalibrationDTO(
+    PredictionLevel level,
+    long snapshots,
+    double meanPredictedProbability,
+    double observedAttendanceRate,
+    double meanAbsoluteError,
+    double meanAbsolutePercentageError
+) {}
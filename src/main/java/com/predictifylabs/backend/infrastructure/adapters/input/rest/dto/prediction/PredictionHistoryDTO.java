@@ -0,0 +1,30 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.prediction;
+
+import com.predictifylabs.backend.domain.model.PredictionLevel;
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the prediction time series of an event
+ */
+@Builder
+public record PredictionHistoryDTO(
+    UUID eventId,
+    OffsetDateTime since,
+    List<Point> points
+) {
+    /**
+     * Single point of the series, in chronological order
+     */
+    @Builder
+    public record Point(
+        OffsetDateTime calculatedAt,
+        short probability,
+        PredictionLevel level,
+        short confidence,
+        int estimatedExpected
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration;
+
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight registration row for organizer listings.
+ * Mapped directly from the keyset page query, without loading entities.
+ */
+@Builder
+public record RegistrationListItemDTO(
+    UUID id,
+    UUID userId,
+    String userName,
+    String userEmail,
+    String status,
+    String ticketCode,
+    Boolean attended,
+    OffsetDateTime attendedAt,
+    OffsetDateTime registeredAt
+) {}
@@ -0,0 +1,17 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.registration;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * DTO for a keyset-paginated page of registrations.
+ * Pass nextCursor back as the cursor parameter to fetch the following page.
+ */
+@Builder
+public record RegistrationPageDTO(
+    List<RegistrationListItemDTO> items,
+    int size,
+    boolean hasMore,
+    String nextCursor
+) {}
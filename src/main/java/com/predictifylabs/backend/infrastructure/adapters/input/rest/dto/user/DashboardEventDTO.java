@@ -0,0 +1,27 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user;
+
+import com.predictifylabs.backend.domain.model.EventStatus;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Saved or interested event on the user dashboard.
+ * Built directly by a JPQL constructor projection.
+ */
+@Builder
+public record DashboardEventDTO(
+    UUID eventId,
+    String title,
+    String slug,
+    String imageUrl,
+    LocalDate startDate,
+    LocalTime startTime,
+    String timezone,
+    EventStatus eventStatus,
+    String city,
+    OffsetDateTime addedAt
+) {}
@@ -0,0 +1,31 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user;
+
+import com.predictifylabs.backend.domain.model.EventStatus;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Registration of the user with the event summary, for the dashboard.
+ * Built directly by a JPQL constructor projection.
+ */
+@Builder
+public record DashboardRegistrationDTO(
+    UUID registrationId,
+    String status,
+    String ticketCode,
+    Boolean attended,
+    OffsetDateTime registeredAt,
+    UUID eventId,
+    String title,
+    String slug,
+    String imageUrl,
+    LocalDate startDate,
+    LocalTime startTime,
+    String timezone,
+    EventStatus eventStatus,
+    String city
+) {}
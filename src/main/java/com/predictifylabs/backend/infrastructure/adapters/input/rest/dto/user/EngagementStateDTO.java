@@ -0,0 +1,15 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user;
+
+import lombok.Builder;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Events the user has saved or marked as interested, including updates not yet written
+ */
+@Builder
+public record EngagementStateDTO(
+    Set<UUID> saved,
+    Set<UUID> interested
+) {}
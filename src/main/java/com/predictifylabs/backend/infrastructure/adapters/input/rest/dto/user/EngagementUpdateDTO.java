@@ -0,0 +1,22 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk saved/interested update: set (active = true) or clear the flag on every listed event
+ */
+@Builder
+public record EngagementUpdateDTO(
+    @NotEmpty(message = "eventIds is required")
+    @Size(max = 500, message = "At most 500 events per request")
+    List<@NotNull UUID> eventIds,
+
+    @NotNull(message = "active is required")
+    Boolean active
+) {}
@@ -0,0 +1,18 @@
+package com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user;
+
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * "My events" dashboard of the authenticated user
+ */
+@Builder
+public record UserDashboardDTO(
+    List<DashboardRegistrationDTO> upcoming,
+    List<DashboardRegistrationDTO> past,
+    List<DashboardEventDTO> saved,
+    List<DashboardEventDTO> interested,
+    OffsetDateTime generatedAt
+) {}
@@ -1,10 +1,12 @@
 package com.predictifylabs.backend.infrastructure.adapters.input.rest.exception;
 
+import com.predictifylabs.backend.infrastructure.config.ServiceBusyException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -47,6 +49,11 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthentication(AuthenticationException ex, WebRequest request) {
+        // The provider wraps a busy password hasher or database, which is no failed login
+        var busy = ServiceBusyException.findIn(ex);
+        if (busy != null) {
+            return handleServiceBusy(busy, request);
+        }
         log.warn("Authentication failed: {}", ex.getMessage());
         return buildErrorResponse(
                 HttpStatus.UNAUTHORIZED,
@@ -203,10 +210,29 @@ public class GlobalExceptionHandler {
                 request.getDescription(false));
     }
 
+    // ==================== OVERLOAD ERRORS ====================
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(ServiceBusyException ex, WebRequest request) {
+        log.warn("Service busy: {}", ex.getMessage());
+        var response = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage(),
+                request.getDescription(false));
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     // ==================== GENERIC EXCEPTION ====================
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex, WebRequest request) {
+        // JPA and the transaction manager wrap a busy database in their own exceptions
+        var busy = ServiceBusyException.findIn(ex);
+        if (busy != null) {
+            return handleServiceBusy(busy, request);
+        }
         log.error("Unexpected error: ", ex);
         return buildErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
@@ -10,6 +10,8 @@ import org.springframework.web.client.RestClient;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Infrastructure adapter that implements communication with the Google Gemini API.
@@ -22,14 +24,23 @@ public class GeminiAdapter implements AiGeneratorPort {
     private final String apiKey;
     private final String model;
 
+    /**
+     * Caps in-flight Gemini calls: with virtual threads the request pool no longer does,
+     * and the API rate-limits bursts
+     */
+    private final Semaphore permits;
+
     private static final String GEMINI_BASE_URL = "https://generativelanguage.googleapis.com/v1beta";
+    private static final long PERMIT_TIMEOUT_SECONDS = 10;
 
     public GeminiAdapter(
             @Value("${application.ai.gemini.api-key:}") String apiKey,
-            @Value("${application.ai.gemini.model:gemini-1.5-flash}") String model
+            @Value("${application.ai.gemini.model:gemini-1.5-flash}") String model,
+            @Value("${application.ai.gemini.max-concurrent-requests:8}") int maxConcurrentRequests
     ) {
         this.apiKey = apiKey;
         this.model = model;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
         this.restClient = RestClient.builder()
                 .baseUrl(GEMINI_BASE_URL)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -48,11 +59,19 @@ public class GeminiAdapter implements AiGeneratorPort {
 
             var requestBody = buildRequestBody(prompt);
 
-            GeminiResponse response = restClient.post()
-                    .uri(url)
-                    .body(requestBody)
-                    .retrieve()
-                    .body(GeminiResponse.class);
+            if (!permits.tryAcquire(PERMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("too many concurrent AI requests");
+            }
+            GeminiResponse response;
+            try {
+                response = restClient.post()
+                        .uri(url)
+                        .body(requestBody)
+                        .retrieve()
+                        .body(GeminiResponse.class);
+            } finally {
+                permits.release();
+            }
 
             return extractTextFromResponse(response);
 
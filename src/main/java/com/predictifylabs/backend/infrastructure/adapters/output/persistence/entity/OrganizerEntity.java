@@ -2,6 +2,8 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.en
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
@@ -14,6 +16,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "organizers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organizers")
 @Getter
 @Setter
 @NoArgsConstructor
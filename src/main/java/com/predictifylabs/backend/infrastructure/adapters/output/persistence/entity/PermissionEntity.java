@@ -2,6 +2,8 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.en
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.OffsetDateTime;
 
@@ -10,6 +12,7 @@ import java.time.OffsetDateTime;
  */
 @Entity
 @Table(name = "permissions")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "permissions")
 @Getter
 @Setter
 @NoArgsConstructor
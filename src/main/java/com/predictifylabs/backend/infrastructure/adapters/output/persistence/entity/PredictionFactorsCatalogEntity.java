@@ -3,6 +3,8 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.en
 import com.predictifylabs.backend.domain.model.FactorType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -13,6 +15,7 @@ import java.time.OffsetDateTime;
  */
 @Entity
 @Table(name = "prediction_factors_catalog")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "prediction-factors")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,6 +4,8 @@ import com.predictifylabs.backend.domain.model.Role;
 import io.hypersistence.utils.hibernate.type.array.StringArrayType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -16,6 +18,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "protected_routes")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "protected-routes")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,6 +3,8 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.en
 import com.predictifylabs.backend.domain.model.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -11,6 +13,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "role_permissions", uniqueConstraints = @UniqueConstraint(columnNames = { "role", "permission_id" }))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-permissions")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,8 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.en
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -11,6 +13,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "tags")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,22 @@
+package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
+
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventInterestedEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EventInterestedRepository extends JpaRepository<EventInterestedEntity, EventInterestedEntity.EventInterestedId> {
+
+    @Query("SELECT new com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardEventDTO(" +
+            "e.id, e.title, e.slug, e.imageUrl, e.startDate, e.startTime, e.timezone, e.status, l.city, i.createdAt) " +
+            "FROM EventInterestedEntity i JOIN i.event e LEFT JOIN e.location l " +
+            "WHERE i.user.id = :userId ORDER BY i.createdAt DESC")
+    List<DashboardEventDTO> findDashboardRowsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT i.event.id FROM EventInterestedEntity i WHERE i.user.id = :userId")
+    List<UUID> findEventIdsByUserId(@Param("userId") UUID userId);
+}
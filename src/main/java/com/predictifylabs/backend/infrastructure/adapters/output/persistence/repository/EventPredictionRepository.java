@@ -2,9 +2,13 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.re
 
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventPredictionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +16,36 @@ public interface EventPredictionRepository extends JpaRepository<EventPrediction
 
     @Query("SELECT ep FROM EventPredictionEntity ep WHERE ep.event.id = :eventId ORDER BY ep.calculatedAt DESC LIMIT 1")
     Optional<EventPredictionEntity> findLatestByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Compact history rows: calculatedAt, probability, level, confidence, estimatedExpected
+     */
+    @Query("SELECT ep.calculatedAt, ep.probability, ep.level, ep.confidence, ep.estimatedExpected " +
+            "FROM EventPredictionEntity ep WHERE ep.event.id = :eventId AND ep.calculatedAt >= :since " +
+            "ORDER BY ep.calculatedAt")
+    List<Object[]> findHistoryByEventId(@Param("eventId") UUID eventId, @Param("since") OffsetDateTime since);
+
+    /**
+     * Downsample predictions older than the cutoff to the last point of each day
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM event_predictions WHERE id IN (" +
+            "SELECT id FROM (" +
+            "SELECT id, ROW_NUMBER() OVER (PARTITION BY event_id, date_trunc('day', calculated_at) " +
+            "ORDER BY calculated_at DESC) AS rn " +
+            "FROM event_predictions WHERE calculated_at < :cutoff) ranked " +
+            "WHERE ranked.rn > 1 LIMIT :limit)", nativeQuery = true)
+    int compactToDailyBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Delete predictions older than the cutoff, always keeping the latest prediction of each event
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM event_predictions WHERE id IN (" +
+            "SELECT ep.id FROM event_predictions ep WHERE ep.calculated_at < :cutoff " +
+            "AND ep.calculated_at < (SELECT MAX(latest.calculated_at) FROM event_predictions latest " +
+            "WHERE latest.event_id = ep.event_id) LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
 }
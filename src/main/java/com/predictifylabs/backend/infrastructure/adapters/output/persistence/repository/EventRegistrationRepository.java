@@ -1,10 +1,12 @@
 package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
 
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardRegistrationDTO;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventRegistrationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,5 +26,29 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     @Query("SELECT COUNT(er) FROM EventRegistrationEntity er WHERE er.event.id = :eventId AND er.attended = true")
     Long countAttendedByEventId(@Param("eventId") UUID eventId);
 
+    @Query("SELECT er.event.id, COUNT(er) FROM EventRegistrationEntity er WHERE er.event.id IN :eventIds AND er.attended = true GROUP BY er.event.id")
+    List<Object[]> countAttendedByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
     boolean existsByEventIdAndUserId(UUID eventId, UUID userId);
+
+    /**
+     * Registrations of a user with their event summary, in a single query
+     */
+    @Query("SELECT new com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardRegistrationDTO(" +
+            "er.id, er.status, er.ticketCode, er.attended, er.registeredAt, " +
+            "e.id, e.title, e.slug, e.imageUrl, e.startDate, e.startTime, e.timezone, e.status, l.city) " +
+            "FROM EventRegistrationEntity er JOIN er.event e LEFT JOIN e.location l " +
+            "WHERE er.user.id = :userId ORDER BY e.startDate, e.startTime")
+    List<DashboardRegistrationDTO> findDashboardRowsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Check-in rows: id, ticketCode, status, attended, attendedAt, user name
+     */
+    @Query("SELECT er.id, er.ticketCode, er.status, er.attended, er.attendedAt, u.name " +
+            "FROM EventRegistrationEntity er JOIN er.user u WHERE er.event.id = :eventId AND er.ticketCode IS NOT NULL")
+    List<Object[]> findCheckInRowsByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT er.id, er.ticketCode, er.status, er.attended, er.attendedAt, u.name " +
+            "FROM EventRegistrationEntity er JOIN er.user u WHERE er.event.id = :eventId AND er.ticketCode = :ticketCode")
+    List<Object[]> findCheckInRowByTicketCode(@Param("eventId") UUID eventId, @Param("ticketCode") String ticketCode);
 }
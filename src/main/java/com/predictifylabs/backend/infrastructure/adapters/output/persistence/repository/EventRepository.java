@@ -2,14 +2,20 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.re
 
 import com.predictifylabs.backend.domain.model.EventStatus;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.EventEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface EventRepository extends JpaRepository<EventEntity, UUID> {
 
@@ -26,9 +32,33 @@ public interface EventRepository extends JpaRepository<EventEntity, UUID> {
     @Query("SELECT e FROM EventEntity e WHERE e.status = 'PUBLISHED' AND e.isFeatured = true ORDER BY e.startDate ASC")
     List<EventEntity> findFeaturedEvents();
 
-    @Query("SELECT e FROM EventEntity e WHERE e.status = 'PUBLISHED' AND e.isTrending = true ORDER BY e.viewsCount DESC")
-    List<EventEntity> findTrendingEvents();
+    /**
+     * Keyset page of the events completed between two dates, ordered by id; start with the nil UUID
+     */
+    @Query("SELECT e FROM EventEntity e WHERE e.status = 'COMPLETED' AND e.startDate >= :fromDate AND e.startDate <= :toDate " +
+            "AND e.id > :afterId ORDER BY e.id")
+    List<EventEntity> findCompletedEventsBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+            @Param("afterId") UUID afterId, Limit limit);
+
+    /**
+     * Search results as a cursor, with organizer and location fetched in the same query
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.organizer LEFT JOIN FETCH e.location " +
+            "WHERE e.status = 'PUBLISHED' AND LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+    Stream<EventEntity> streamByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * Events of an organizer as a cursor, newest first, with organizer and location fetched in the same query
+     */
+    @Query("SELECT e FROM EventEntity e JOIN FETCH e.organizer LEFT JOIN FETCH e.location " +
+            "WHERE e.organizer.id = :organizerId ORDER BY e.createdAt DESC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+    Stream<EventEntity> streamByOrganizer(@Param("organizerId") UUID organizerId);
+
+    @Query("SELECT e.organizer.user.id FROM EventEntity e WHERE e.id = :eventId")
+    Optional<UUID> findOrganizerUserId(@Param("eventId") UUID eventId);
 
-    @Query("SELECT e FROM EventEntity e WHERE e.status = 'PUBLISHED' AND LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<EventEntity> searchByKeyword(@Param("keyword") String keyword);
+    @Query("SELECT e.organizer.user.email FROM EventEntity e WHERE e.id = :eventId")
+    Optional<String> findOrganizerEmail(@Param("eventId") UUID eventId);
 }
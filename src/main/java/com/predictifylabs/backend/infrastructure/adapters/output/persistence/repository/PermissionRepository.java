@@ -0,0 +1,13 @@
+package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.PermissionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PermissionRepository extends JpaRepository<PermissionEntity, String> {
+
+    @Query("SELECT p.id FROM PermissionEntity p WHERE p.isActive = true ORDER BY p.id")
+    List<String> findActiveIds();
+}
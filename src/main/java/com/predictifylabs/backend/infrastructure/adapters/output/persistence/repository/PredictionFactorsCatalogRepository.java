@@ -0,0 +1,15 @@
+package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.PredictionFactorsCatalogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PredictionFactorsCatalogRepository extends JpaRepository<PredictionFactorsCatalogEntity, String> {
+
+    @Query("SELECT f.id, f.defaultWeight, f.isActive FROM PredictionFactorsCatalogEntity f WHERE f.id IN :ids")
+    List<Object[]> findWeightsByIds(@Param("ids") Collection<String> ids);
+}
@@ -1,12 +1,22 @@
 package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
 
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.ProtectedRouteEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface ProtectedRouteRepository extends JpaRepository<ProtectedRouteEntity, UUID> {
 
+    /**
+     * Served from the "active-protected-routes" query cache until protected_routes changes
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "active-protected-routes")
+    })
     List<ProtectedRouteEntity> findByIsActiveTrue();
 }
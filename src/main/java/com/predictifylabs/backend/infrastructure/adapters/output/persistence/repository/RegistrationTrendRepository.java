@@ -0,0 +1,16 @@
+package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.RegistrationTrendEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface RegistrationTrendRepository extends JpaRepository<RegistrationTrendEntity, UUID> {
+
+    @Query("SELECT rt FROM RegistrationTrendEntity rt WHERE rt.event.id IN :eventIds ORDER BY rt.event.id, rt.date ASC")
+    List<RegistrationTrendEntity> findByEventIdsOrderByDate(@Param("eventIds") Collection<UUID> eventIds);
+}
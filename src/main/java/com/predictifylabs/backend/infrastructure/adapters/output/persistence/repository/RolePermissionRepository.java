@@ -2,8 +2,11 @@ package com.predictifylabs.backend.infrastructure.adapters.output.persistence.re
 
 import com.predictifylabs.backend.domain.model.Role;
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.RolePermissionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -13,6 +16,13 @@ public interface RolePermissionRepository extends JpaRepository<RolePermissionEn
 
     List<RolePermissionEntity> findByRole(Role role);
 
+    /**
+     * Served from the "role-permission-ids" query cache until role_permissions changes
+     */
     @Query("SELECT rp.permission.id FROM RolePermissionEntity rp WHERE rp.role = :role")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "role-permission-ids")
+    })
     List<String> findPermissionIdsByRole(@Param("role") Role role);
 }
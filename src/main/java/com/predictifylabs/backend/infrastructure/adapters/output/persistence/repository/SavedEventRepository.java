@@ -0,0 +1,22 @@
+package com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository;
+
+import com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardEventDTO;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.SavedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SavedEventRepository extends JpaRepository<SavedEventEntity, SavedEventEntity.SavedEventId> {
+
+    @Query("SELECT new com.predictifylabs.backend.infrastructure.adapters.input.rest.dto.user.DashboardEventDTO(" +
+            "e.id, e.title, e.slug, e.imageUrl, e.startDate, e.startTime, e.timezone, e.status, l.city, s.createdAt) " +
+            "FROM SavedEventEntity s JOIN s.event e LEFT JOIN e.location l " +
+            "WHERE s.user.id = :userId ORDER BY s.createdAt DESC")
+    List<DashboardEventDTO> findDashboardRowsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT s.event.id FROM SavedEventEntity s WHERE s.user.id = :userId")
+    List<UUID> findEventIdsByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,266 @@
+package com.predictifylabs.backend.infrastructure.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cross-instance invalidation of in-process caches over Postgres LISTEN/NOTIFY.
+ * A change is published as a key "namespace:id"; it is applied to the local caches
+ * registered for the namespace once the transaction commits, and sent to the other
+ * instances with NOTIFY, which Postgres delivers on commit and drops on rollback.
+ * Each instance listens on a dedicated connection outside the pool. Notifications sent
+ * while that connection is down are lost, so every (re)connect flushes all local caches.
+ * Database triggers publish on the same channel with the table name as namespace.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private static final String FLUSH_ALL = "*";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private static final int POLL_TIMEOUT_MILLIS = 10_000;
+    private static final long MIN_RECONNECT_DELAY_MILLIS = 1_000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+    /**
+     * A local cache that can drop single keys or everything
+     */
+    public interface LocalCache {
+
+        void invalidate(String id);
+
+        void invalidateAll();
+
+        static LocalCache of(Consumer<String> invalidate, Runnable invalidateAll) {
+            return new LocalCache() {
+                @Override
+                public void invalidate(String id) {
+                    invalidate.accept(id);
+                }
+
+                @Override
+                public void invalidateAll() {
+                    invalidateAll.run();
+                }
+            };
+        }
+    }
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    /**
+     * Payloads are "origin|namespace:id", with origin "db" for triggers; an instance skips
+     * its own notifications, already applied locally
+     */
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, List<LocalCache>> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread worker;
+
+    public CacheInvalidationBus(
+            DataSourceProperties dataSourceProperties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Apply invalidations of a namespace to a local cache
+     */
+    public void register(String namespace, LocalCache cache) {
+        caches.computeIfAbsent(namespace, key -> new CopyOnWriteArrayList<>()).add(cache);
+    }
+
+    /**
+     * Invalidate a key on every instance once the current transaction commits
+     */
+    public void publish(String namespace, Object id) {
+        send(namespace + ":" + id);
+    }
+
+    /**
+     * Flush every registered cache on every instance, e.g. after a bulk change
+     */
+    public void publishFlushAll() {
+        send(FLUSH_ALL);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        var current = connection;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Could not close the cache invalidation connection: {}", e.getMessage());
+            }
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // Helper methods
+
+    private void send(String key) {
+        var payload = instanceId + "|" + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyNow(payload);
+            dispatch(key);
+            return;
+        }
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            // Queued by Postgres until this transaction commits
+            sendNotify(payload);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (readOnly) {
+                    // NOTIFY is not allowed in a read-only transaction
+                    newTransaction.executeWithoutResult(status -> notifyNow(payload));
+                }
+                dispatch(key);
+            }
+        });
+    }
+
+    private void notifyNow(String payload) {
+        try {
+            sendNotify(payload);
+        } catch (RuntimeException e) {
+            // Other instances keep stale entries until their TTL or next full flush
+            log.warn("Could not publish cache invalidation {}: {}", payload, e.getMessage());
+        }
+    }
+
+    private void sendNotify(String payload) {
+        jdbcTemplate.query(NOTIFY_SQL, (ResultSetExtractor<Void>) rs -> null, CHANNEL, payload);
+    }
+
+    private void listen() {
+        long reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+        while (running) {
+            try (var listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (var statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                flushAll();
+                reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+                log.info("Listening for cache invalidations as instance {}", instanceId);
+
+                var pg = listening.unwrap(PGConnection.class);
+                while (running) {
+                    var notifications = pg.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        for (var notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    } else if (!listening.isValid(5)) {
+                        throw new SQLException("Cache invalidation connection is no longer valid");
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, reconnecting in {} ms: {}",
+                        reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            log.debug("Ignoring cache invalidation {}", payload);
+            return;
+        }
+        var origin = payload.substring(0, separator);
+        if (origin.equals(instanceId)) {
+            return;
+        }
+        dispatch(payload.substring(separator + 1));
+    }
+
+    private void dispatch(String key) {
+        if (key.equals(FLUSH_ALL)) {
+            flushAll();
+            return;
+        }
+        int separator = key.indexOf(':');
+        var registered = separator > 0 ? caches.get(key.substring(0, separator)) : null;
+        if (registered == null) {
+            return;
+        }
+        var id = key.substring(separator + 1);
+        for (var cache : registered) {
+            try {
+                cache.invalidate(id);
+            } catch (RuntimeException e) {
+                log.warn("Could not invalidate {}, flushing the cache instead: {}", key, e.getMessage());
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    private void flushAll() {
+        caches.values().forEach(registered -> registered.forEach(cache -> {
+            try {
+                cache.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Could not flush a local cache: {}", e.getMessage());
+            }
+        }));
+    }
+}
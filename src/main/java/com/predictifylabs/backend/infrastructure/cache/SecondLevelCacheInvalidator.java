@@ -0,0 +1,56 @@
+package com.predictifylabs.backend.infrastructure.cache;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.OrganizerEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.PermissionEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.PredictionFactorsCatalogEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.ProtectedRouteEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.RolePermissionEntity;
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.entity.TagEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keeps the second-level cache coherent with changes made outside this instance's
+ * Hibernate session factory (counter triggers, JDBC batch updates, other instances).
+ * The cached tables announce every row change on the {@link CacheInvalidationBus} with
+ * the table name as namespace (see the V7 and V8 migrations); the entity and the query
+ * regions over the table are evicted, and a full flush clears every region.
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+
+    /**
+     * Cached entity of a table, how to parse its id and the query regions reading it
+     */
+    private record CachedTable(Class<?> entity, Function<String, Object> id, List<String> queryRegions) {}
+
+    private static final Map<String, CachedTable> TABLES = Map.of(
+            "organizers", new CachedTable(OrganizerEntity.class, UUID::fromString, List.of()),
+            "permissions", new CachedTable(PermissionEntity.class, id -> id, List.of()),
+            "role_permissions", new CachedTable(RolePermissionEntity.class, UUID::fromString, List.of("role-permission-ids")),
+            "protected_routes", new CachedTable(ProtectedRouteEntity.class, UUID::fromString, List.of("active-protected-routes")),
+            "prediction_factors_catalog", new CachedTable(PredictionFactorsCatalogEntity.class, id -> id, List.of()),
+            "tags", new CachedTable(TagEntity.class, UUID::fromString, List.of()));
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        TABLES.forEach((tableName, table) -> bus.register(tableName, CacheInvalidationBus.LocalCache.of(
+                id -> evict(table, id),
+                cache::evictAllRegions)));
+    }
+
+    // Helper methods
+    private void evict(CachedTable table, String id) {
+        cache.evictEntityData(table.entity(), table.id().apply(id));
+        table.queryRegions().forEach(cache::evictQueryRegion);
+    }
+}
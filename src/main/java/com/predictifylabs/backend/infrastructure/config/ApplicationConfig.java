@@ -1,31 +1,44 @@
 package com.predictifylabs.backend.infrastructure.config;
 
 import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.UserRepository;
+import com.predictifylabs.backend.infrastructure.security.RolePermissionEvaluator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
     private final UserRepository repository;
 
+    @Value("${application.password-hash.wait-timeout:PT2S}")
+    private Duration passwordHashWaitTimeout;
+
+    @Value("${application.password-hash.retry-after:PT1S}")
+    private Duration passwordHashRetryAfter;
+
     @Bean
     public UserDetailsService userDetailsService() {
         return username -> repository.findByEmail(username)
                 .map(user -> new org.springframework.security.core.userdetails.User(
                         user.getEmail(),
                         user.getPassword(),
-                        java.util.Collections.emptyList() // Roles pendientes de mapear a Authority
+                        // Permissions are resolved per role by RolePermissionEvaluator
+                        List.of(new SimpleGrantedAuthority(RolePermissionEvaluator.ROLE_PREFIX + user.getRole().name()))
                 ))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
@@ -45,6 +58,9 @@ public class ApplicationConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Leave at least one core free for other requests while logins are hashing
+        int maxConcurrent = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), maxConcurrent,
+                passwordHashWaitTimeout, passwordHashRetryAfter);
     }
 }
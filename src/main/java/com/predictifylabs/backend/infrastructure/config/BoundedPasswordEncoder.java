@@ -0,0 +1,70 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password encoder that limits how many hashes run at once.
+ * BCrypt is pure CPU work: with virtual threads nothing else bounds the number of
+ * concurrent logins, and unbounded hashing would occupy every carrier thread and
+ * stall all other requests. Callers beyond the limit wait at most the wait timeout,
+ * then fail with {@link ServiceBusyException} (503 with Retry-After) rather than
+ * piling up behind a login burst.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final Duration waitTimeout;
+    private final Duration retryAfter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, Duration waitTimeout, Duration retryAfter) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.waitTimeout = waitTimeout;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        acquire();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Helper methods
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting to check the password", retryAfter);
+        }
+        if (!acquired) {
+            throw new ServiceBusyException("Too many logins in progress, please retry", retryAfter);
+        }
+    }
+}
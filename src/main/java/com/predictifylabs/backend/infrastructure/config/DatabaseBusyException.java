@@ -0,0 +1,14 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import java.time.Duration;
+
+/**
+ * No database connection could be obtained within the request class' wait timeout.
+ * Answered with 503 and a Retry-After header instead of queueing the request.
+ */
+public class DatabaseBusyException extends ServiceBusyException {
+
+    public DatabaseBusyException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
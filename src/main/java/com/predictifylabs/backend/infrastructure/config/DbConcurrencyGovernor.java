@@ -0,0 +1,270 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulkheads in front of the connection pool, one per request class.
+ * Every connection is checked out under a permit of the calling thread's class: a fair
+ * semaphore bounds how many connections the class holds at once, and a caller that gets
+ * no permit within the class' wait timeout fails with {@link DatabaseBusyException}
+ * (503) instead of queueing on the pool. Batch, flush and admin work are capped below the
+ * pool size, so background jobs can never take every connection from interactive requests.
+ * Class limits may overlap, so every checkout, nested ones included, also takes a slot of a
+ * pool-wide semaphore sized to the pool within the same wait: the pool itself never has a
+ * caller waiting on it, and its connection timeout is only a last resort. Read replica pools
+ * get slots of their own (see {@link #poolSlots}) and share the class limits.
+ */
+@Component
+@Slf4j
+public class DbConcurrencyGovernor {
+
+    public enum RequestClass {
+        /**
+         * GET requests, public or authenticated
+         */
+        READ,
+        /**
+         * Requests changing data
+         */
+        WRITE,
+        /**
+         * Heavy administrative requests (imports, exports, backtests)
+         */
+        ADMIN,
+        /**
+         * Scheduled jobs and any other work outside a request
+         */
+        BATCH,
+        /**
+         * Background writes of buffered user actions (check-in recounts, engagement toggles);
+         * kept apart from batch so they never queue behind reports or reindexing
+         */
+        FLUSH
+    }
+
+    private static final ThreadLocal<RequestClass> CURRENT_CLASS = new ThreadLocal<>();
+
+    /**
+     * Permit of the connection the thread already holds; nested checkouts reuse it
+     */
+    private static final ThreadLocal<Permit> HELD_PERMIT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestClass, Bulkhead> bulkheads = new EnumMap<>(RequestClass.class);
+
+    /**
+     * One slot per connection of the primary pool, shared by all classes
+     */
+    private final Semaphore connections;
+
+    public DbConcurrencyGovernor(
+            DbGovernorProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.enabled = properties.isEnabled();
+        this.retryAfter = properties.getRetryAfter();
+        this.meterRegistry = meterRegistry;
+        this.connections = poolSlots("primary", poolSize);
+        bulkheads.put(RequestClass.READ, new Bulkhead(RequestClass.READ, properties.getRead(), poolSize, poolSize, meterRegistry));
+        bulkheads.put(RequestClass.WRITE, new Bulkhead(RequestClass.WRITE, properties.getWrite(), poolSize, poolSize, meterRegistry));
+        // Leave at least one connection to interactive requests whatever the configuration says
+        int backgroundCap = Math.max(1, poolSize - 1);
+        bulkheads.put(RequestClass.ADMIN, new Bulkhead(RequestClass.ADMIN, properties.getAdmin(), poolSize, backgroundCap, meterRegistry));
+        bulkheads.put(RequestClass.BATCH, new Bulkhead(RequestClass.BATCH, properties.getBatch(), poolSize, backgroundCap, meterRegistry));
+        bulkheads.put(RequestClass.FLUSH, new Bulkhead(RequestClass.FLUSH, properties.getFlush(), poolSize, backgroundCap, meterRegistry));
+        log.info("DB governor {}: pool {}, read {}, write {}, admin {}, batch {}, flush {}", enabled ? "enabled" : "disabled",
+                poolSize, bulkheads.get(RequestClass.READ).limit, bulkheads.get(RequestClass.WRITE).limit,
+                bulkheads.get(RequestClass.ADMIN).limit, bulkheads.get(RequestClass.BATCH).limit,
+                bulkheads.get(RequestClass.FLUSH).limit);
+    }
+
+    /**
+     * Class of the work running on this thread; threads outside a request count as batch
+     */
+    public static RequestClass currentClass() {
+        var requestClass = CURRENT_CLASS.get();
+        return requestClass != null ? requestClass : RequestClass.BATCH;
+    }
+
+    /**
+     * Bind the class of the work about to run on this thread; null unbinds it
+     */
+    public static void setCurrentClass(RequestClass requestClass) {
+        if (requestClass == null) {
+            CURRENT_CLASS.remove();
+        } else {
+            CURRENT_CLASS.set(requestClass);
+        }
+    }
+
+    /**
+     * Run work under a request class, e.g. a scheduled job that is not plain batch work
+     */
+    public static void runAs(RequestClass requestClass, Runnable work) {
+        var previous = CURRENT_CLASS.get();
+        setCurrentClass(requestClass);
+        try {
+            work.run();
+        } finally {
+            setCurrentClass(previous);
+        }
+    }
+
+    /**
+     * Slots bounding the checkouts of one pool, one per connection
+     */
+    public Semaphore poolSlots(String pool, int size) {
+        var slots = new Semaphore(size, true);
+        Gauge.builder("db.governor.pool.in.use", slots, s -> size - s.availablePermits())
+                .description("Connections of the pool held through the governor")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        return slots;
+    }
+
+    /**
+     * Take a permit for a checkout from the primary pool
+     */
+    public Permit acquire() {
+        return acquire(connections);
+    }
+
+    /**
+     * Take a permit for a connection checkout, waiting at most the class' timeout.
+     * A thread that already holds a connection (e.g. REQUIRES_NEW) only takes a pool slot,
+     * so it cannot wait on its own class permit.
+     */
+    public Permit acquire(Semaphore poolSlots) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        var held = HELD_PERMIT.get();
+        boolean nested = held != null && !held.released.get();
+        var bulkhead = bulkheads.get(currentClass());
+        long start = System.nanoTime();
+        long deadline = start + bulkhead.waitTimeout.toNanos();
+        Semaphore classSlot = null;
+        boolean acquired;
+        try {
+            if (!nested) {
+                if (!bulkhead.semaphore.tryAcquire(bulkhead.waitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw rejected(bulkhead, start);
+                }
+                classSlot = bulkhead.semaphore;
+            }
+            acquired = poolSlots.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            if (classSlot != null) {
+                classSlot.release();
+            }
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database connection", retryAfter);
+        }
+        if (!acquired) {
+            if (classSlot != null) {
+                classSlot.release();
+            }
+            throw rejected(bulkhead, start);
+        }
+        bulkhead.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        var permit = new Permit(classSlot, poolSlots);
+        if (!nested) {
+            HELD_PERMIT.set(permit);
+        }
+        return permit;
+    }
+
+    /**
+     * Busy error for a class whose connection could not be obtained
+     */
+    public DatabaseBusyException busy(RequestClass requestClass) {
+        return new DatabaseBusyException(
+                "Database is busy (" + requestClass.name().toLowerCase() + " requests), please retry", retryAfter);
+    }
+
+    // Helper methods
+
+    private DatabaseBusyException rejected(Bulkhead bulkhead, long start) {
+        bulkhead.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        bulkhead.rejected.increment();
+        return busy(bulkhead.requestClass);
+    }
+
+    /**
+     * A connection slot (and the class slot of a first checkout); released once, from
+     * whichever thread closes the connection
+     */
+    public static final class Permit {
+
+        static final Permit NONE = new Permit(null, null);
+
+        private final Semaphore classSlot;
+        private final Semaphore poolSlot;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore classSlot, Semaphore poolSlot) {
+            this.classSlot = classSlot;
+            this.poolSlot = poolSlot;
+        }
+
+        public void release() {
+            if (poolSlot != null && released.compareAndSet(false, true)) {
+                poolSlot.release();
+                if (classSlot != null) {
+                    classSlot.release();
+                }
+                if (HELD_PERMIT.get() == this) {
+                    HELD_PERMIT.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Bulkhead {
+
+        private final RequestClass requestClass;
+        private final int limit;
+        private final Duration waitTimeout;
+        private final Semaphore semaphore;
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        Bulkhead(RequestClass requestClass, DbGovernorProperties.Bulkhead config, int poolSize, int cap,
+                 MeterRegistry meterRegistry) {
+            this.requestClass = requestClass;
+            int configured = config.getMaxConcurrent() > 0 ? config.getMaxConcurrent() : poolSize;
+            this.limit = Math.min(configured, cap);
+            this.waitTimeout = config.getWaitTimeout();
+            this.semaphore = new Semaphore(limit, true);
+            var tag = requestClass.name().toLowerCase();
+            this.waitTimer = Timer.builder("db.governor.wait")
+                    .description("Time spent waiting for a connection slot")
+                    .tag("class", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("db.governor.rejected")
+                    .description("Checkouts refused after the wait timeout")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("db.governor.in.use", semaphore, s -> limit - s.availablePermits())
+                    .description("Connections held by the class")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+    }
+}
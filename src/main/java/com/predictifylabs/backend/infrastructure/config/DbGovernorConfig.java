@@ -0,0 +1,61 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Wires the {@link DbConcurrencyGovernor}: the pool is wrapped so every checkout takes a
+ * permit, and async request work (streaming responses) keeps the class of its request and
+ * its read-your-writes pin.
+ */
+@Configuration
+public class DbGovernorConfig {
+
+    @Bean
+    public static BeanPostProcessor governedDataSourcePostProcessor(ObjectProvider<DbConcurrencyGovernor> governor) {
+        return new GovernedDataSourcePostProcessor(governor);
+    }
+
+    /**
+     * Applied by Spring Boot to the application task executor, which runs streaming response bodies
+     */
+    @Bean
+    public TaskDecorator requestClassTaskDecorator() {
+        return task -> {
+            var requestClass = DbConcurrencyGovernor.currentClass();
+            boolean pinnedToPrimary = ReadReplicaRouter.isPinnedToPrimary();
+            return () -> {
+                DbConcurrencyGovernor.setCurrentClass(requestClass);
+                ReadReplicaRouter.setPinnedToPrimary(pinnedToPrimary);
+                try {
+                    task.run();
+                } finally {
+                    DbConcurrencyGovernor.setCurrentClass(null);
+                    ReadReplicaRouter.setPinnedToPrimary(false);
+                }
+            };
+        };
+    }
+
+    /**
+     * Runs first, so the replica routing wraps the governed pool rather than the raw one
+     */
+    private record GovernedDataSourcePostProcessor(ObjectProvider<DbConcurrencyGovernor> governor)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof HikariDataSource pool ? new GovernedDataSource(pool, governor) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits of the database concurrency governor, one bulkhead per request class
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.db-governor")
+public class DbGovernorProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Retry-After sent with the 503 when a bulkhead is full
+     */
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    /**
+     * Paths classified as admin work (imports, exports, backtests), Ant patterns
+     */
+    private List<String> adminPaths = new ArrayList<>();
+
+    private Bulkhead read = new Bulkhead(0, Duration.ofMillis(500));
+    private Bulkhead write = new Bulkhead(0, Duration.ofSeconds(1));
+    private Bulkhead admin = new Bulkhead(1, Duration.ofSeconds(2));
+    private Bulkhead batch = new Bulkhead(1, Duration.ofSeconds(30));
+    private Bulkhead flush = new Bulkhead(1, Duration.ofSeconds(5));
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /**
+         * Connections the class may hold at once; 0 means the whole pool
+         */
+        private int maxConcurrent;
+
+        /**
+         * How long a caller waits for a slot before giving up
+         */
+        private Duration waitTimeout;
+
+        public Bulkhead() {
+        }
+
+        Bulkhead(int maxConcurrent, Duration waitTimeout) {
+            this.maxConcurrent = maxConcurrent;
+            this.waitTimeout = waitTimeout;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool wrapper that checks connections out through the {@link DbConcurrencyGovernor}.
+ * The permit is held until the connection is closed (returned to the pool). A pool
+ * timeout is reported as {@link DatabaseBusyException} too, so it also ends in a 503.
+ * The primary pool uses the governor's own slots; read replica pools bring theirs.
+ */
+public class GovernedDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<DbConcurrencyGovernor> governorProvider;
+    private final Semaphore poolSlots;
+    private volatile DbConcurrencyGovernor governor;
+
+    public GovernedDataSource(DataSource pool, ObjectProvider<DbConcurrencyGovernor> governorProvider) {
+        this(pool, governorProvider, null);
+    }
+
+    /**
+     * @param poolSlots slots of the wrapped pool from {@link DbConcurrencyGovernor#poolSlots},
+     *                  null for the primary pool
+     */
+    public GovernedDataSource(DataSource pool, ObjectProvider<DbConcurrencyGovernor> governorProvider, Semaphore poolSlots) {
+        super(pool);
+        this.governorProvider = governorProvider;
+        this.poolSlots = poolSlots;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return governed(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return governed(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // Helper methods
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private Connection governed(ConnectionSource source) throws SQLException {
+        var governor = governor();
+        var permit = poolSlots != null ? governor.acquire(poolSlots) : governor.acquire();
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLTransientConnectionException e) {
+            permit.release();
+            var busy = governor.busy(DbConcurrencyGovernor.currentClass());
+            busy.initCause(e);
+            throw busy;
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if (method.getName().equals("close")) {
+                                permit.release();
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Resolved on first use: the pool is created before the governor and its meter registry
+     */
+    private DbConcurrencyGovernor governor() {
+        var current = governor;
+        if (current == null) {
+            current = governorProvider.getObject();
+            governor = current;
+        }
+        return current;
+    }
+}
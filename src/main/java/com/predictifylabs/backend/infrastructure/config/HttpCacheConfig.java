@@ -0,0 +1,22 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control policy of public, versioned reads (event and prediction details).
+ * Browsers and the nginx proxy cache may reuse a response for max-age, then
+ * revalidate it with If-None-Match / If-Modified-Since.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public CacheControl publicCacheControl(@Value("${application.http-cache.public-max-age:PT30S}") Duration maxAge) {
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+}
@@ -0,0 +1,53 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to the {@link ReadReplicaRouter} when replicas are configured.
+ * The lazy proxy only fetches the physical connection at the first statement, once the
+ * transaction manager has flagged it read-only, so {@code @Transactional(readOnly = true)}
+ * is all a service needs to read from a replica.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    public static BeanPostProcessor readReplicaDataSourcePostProcessor(ObjectProvider<ReadReplicaRouter> router) {
+        return new ReadReplicaDataSourcePostProcessor(router);
+    }
+
+    /**
+     * Runs last, around the governed primary pool
+     */
+    private record ReadReplicaDataSourcePostProcessor(ObjectProvider<ReadReplicaRouter> router)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof GovernedDataSource || bean instanceof HikariDataSource)) {
+                return bean;
+            }
+            var replicas = router.getObject();
+            if (!replicas.isEnabled()) {
+                return bean;
+            }
+            var primary = (DataSource) bean;
+            var proxy = new LazyConnectionDataSourceProxy(primary);
+            proxy.setReadOnlyDataSource(replicas.readOnlyDataSource(primary));
+            return proxy;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas serving read-only transactions
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * JDBC URLs of the replicas
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+    private String password;
+    private int poolSize = 10;
+
+    /**
+     * Replicas further behind the primary than this are skipped
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * How long a user's reads stay on the primary after one of their writes
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,206 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Chooses where read-only transactions run.
+ * Replicas are used round-robin while their replication lag, checked in the background,
+ * stays under the limit; a lagging or unreachable replica is skipped and with none left
+ * reads go to the primary. Requests pinned by {@link ReadYourWritesFilter} (writes, and
+ * reads by a client that wrote moments ago on any instance) read from the primary.
+ * Replica checkouts go through the {@link DbConcurrencyGovernor} like primary ones.
+ */
+@Component
+@Slf4j
+public class ReadReplicaRouter {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when the replica has replayed
+     * everything it received (an idle primary must not look like lag)
+     */
+    private static final String LAG_SQL = """
+            SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)
+            """;
+
+    /**
+     * Whether the work on this thread must read from the primary
+     */
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final double maxLagSeconds;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRouter(
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<DbConcurrencyGovernor> governor) {
+        this.enabled = properties.isEnabled() && !properties.getUrls().isEmpty();
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            var config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(properties.getUrls().get(i));
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setMaximumPoolSize(properties.getPoolSize());
+            config.setConnectionTimeout(2000);
+            config.setReadOnly(true);
+            // Start even if the replica is down; it is skipped until a lag check succeeds
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            var pool = new HikariDataSource(config);
+            // One connection is left to the lag check, which is not governed so it never queues behind batch work
+            var slots = governor.getObject().poolSlots(config.getPoolName(), Math.max(1, properties.getPoolSize() - 1));
+            var replica = new Replica(config.getPoolName(), pool, new GovernedDataSource(pool, governor, slots));
+            replicas.add(replica);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag in seconds, negative while unreachable")
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        log.info("Routing read-only transactions to {} replica(s), max lag {}s", replicas.size(), maxLagSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Data source for read-only connections, falling back to the given primary
+     */
+    public DataSource readOnlyDataSource(DataSource primary) {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return readOnlyConnection(primary);
+            }
+        };
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    /**
+     * Pin the reads of the work on this thread to the primary; false unpins them
+     */
+    public static void setPinnedToPrimary(boolean pinned) {
+        if (pinned) {
+            PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        } else {
+            PINNED_TO_PRIMARY.remove();
+        }
+    }
+
+    /**
+     * Run work with its reads on the primary, e.g. a cache refill that must not store a
+     * lagging replica's rows. Only effective while the transaction has no connection yet.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean previous = isPinnedToPrimary();
+        setPinnedToPrimary(true);
+        try {
+            return work.get();
+        } finally {
+            setPinnedToPrimary(previous);
+        }
+    }
+
+    /**
+     * Refresh the replication lag of every replica
+     */
+    @Scheduled(fixedDelayString = "${application.read-replicas.lag-check-interval:PT2S}")
+    public void checkLag() {
+        if (!enabled) {
+            return;
+        }
+        for (var replica : replicas) {
+            try (var connection = replica.pool.getConnection();
+                 var statement = connection.createStatement();
+                 var rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                if (!replica.available && lag <= maxLagSeconds) {
+                    log.info("Replica {} is back, lag {}s", replica.name, lag);
+                }
+                replica.lagSeconds = lag;
+                replica.available = true;
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    // Helper methods
+
+    private Connection readOnlyConnection(DataSource primary) throws SQLException {
+        if (isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            var replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.available || replica.lagSeconds > maxLagSeconds) {
+                continue;
+            }
+            try {
+                return replica.governed.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    private void markDown(Replica replica, Exception e) {
+        if (replica.available) {
+            log.warn("Replica {} unavailable, reading from the primary: {}", replica.name, e.getMessage());
+        }
+        replica.available = false;
+        replica.lagSeconds = -1;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource governed;
+        private volatile boolean available;
+        private volatile double lagSeconds = -1;
+
+        Replica(String name, HikariDataSource pool, DataSource governed) {
+            this.name = name;
+            this.pool = pool;
+            this.governed = governed;
+        }
+    }
+}
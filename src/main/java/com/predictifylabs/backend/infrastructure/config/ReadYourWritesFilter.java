@@ -0,0 +1,104 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for the sticky window after one of its writes.
+ * The deadline travels with the client, so it holds whichever instance serves the next
+ * request: write requests answer with a {@value #HEADER} header and a {@value #COOKIE}
+ * cookie (epoch millis), and requests carrying a deadline still in the future are pinned
+ * to the primary through {@link ReadReplicaRouter#setPinnedToPrimary}. A deadline further
+ * away than one window is ignored, so a forged value cannot pin a client indefinitely.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Primary-Until";
+    public static final String COOKIE = "primary_until";
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ReadReplicaProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !readReplicaRouter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        Duration window = properties.getStickyWindow();
+        boolean write = isWrite(request);
+        if (write) {
+            // Set before the chain runs, while the response is not committed yet
+            markWrite(request, response, now + window.toMillis(), window);
+        }
+        ReadReplicaRouter.setPinnedToPrimary(write || isSticky(request, now, window));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadReplicaRouter.setPinnedToPrimary(false);
+        }
+    }
+
+    // Helper methods
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> false;
+            default -> true;
+        };
+    }
+
+    private static boolean isSticky(HttpServletRequest request, long now, Duration window) {
+        long until = parse(request.getHeader(HEADER));
+        if (until < 0 && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    until = parse(cookie.getValue());
+                }
+            }
+        }
+        return until >= now && until <= now + window.toMillis();
+    }
+
+    private static void markWrite(HttpServletRequest request, HttpServletResponse response, long until, Duration window) {
+        response.setHeader(HEADER, Long.toString(until));
+        var cookie = ResponseCookie.from(COOKIE, Long.toString(until))
+                .path("/")
+                .maxAge(window)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
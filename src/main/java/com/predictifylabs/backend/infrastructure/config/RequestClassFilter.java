@@ -0,0 +1,65 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import com.predictifylabs.backend.infrastructure.config.DbConcurrencyGovernor.RequestClass;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the request class used by the {@link DbConcurrencyGovernor} for the whole request,
+ * including the user lookup of the JWT filter. Also turns a busy database or password hasher
+ * hit outside the controllers (e.g. during authentication) into a 503 with Retry-After.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestClassFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final DbGovernorProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        DbConcurrencyGovernor.setCurrentClass(classify(request));
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+            var busy = ServiceBusyException.findIn(e);
+            if (busy == null || response.isCommitted()) {
+                throw e;
+            }
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.retryAfterSeconds()));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, busy.getMessage());
+        } finally {
+            DbConcurrencyGovernor.setCurrentClass(null);
+        }
+    }
+
+    private RequestClass classify(HttpServletRequest request) {
+        var path = request.getServletPath();
+        for (var pattern : properties.getAdminPaths()) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return RequestClass.ADMIN;
+            }
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> RequestClass.READ;
+            default -> RequestClass.WRITE;
+        };
+    }
+}
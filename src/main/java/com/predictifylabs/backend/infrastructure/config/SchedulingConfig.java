@@ -0,0 +1,12 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background jobs (weights reload, refreshes, compaction)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
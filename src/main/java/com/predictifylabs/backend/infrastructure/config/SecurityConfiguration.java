@@ -5,6 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -54,6 +58,9 @@ public class SecurityConfiguration {
                         "/api/v1/events/featured",
                         "/api/v1/events/trending",
                         "/api/v1/events/search",
+                        "/api/v1/events/nearby",
+                        "/api/v1/events/browse",
+                        "/api/v1/events/tags",
                         "/api/v1/events/slug/**",
                         "/api/v1/events/{id}",
                         // Public organizer endpoints
@@ -70,6 +77,17 @@ public class SecurityConfiguration {
         return http.build();
     }
 
+    /**
+     * Resolves hasPermission(...) in @PreAuthorize with the compiled role permissions.
+     * Lazy, so method security does not initialize JPA early.
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(@Lazy PermissionEvaluator permissionEvaluator) {
+        var handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(permissionEvaluator);
+        return handler;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -90,13 +108,15 @@ public class SecurityConfiguration {
                 "Origin",
                 "X-Requested-With",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"));
+                "Access-Control-Request-Headers",
+                ReadYourWritesFilter.HEADER));
 
         // Expose headers that Angular can read
         configuration.setExposedHeaders(Arrays.asList(
                 "Authorization",
                 "Content-Disposition",
-                "X-Total-Count"));
+                "X-Total-Count",
+                ReadYourWritesFilter.HEADER));
 
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
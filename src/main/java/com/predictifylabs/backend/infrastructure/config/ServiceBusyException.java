@@ -0,0 +1,39 @@
+package com.predictifylabs.backend.infrastructure.config;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * A bounded resource (database connections, password hashing) had no room within its wait timeout.
+ * Answered with 503 and a Retry-After header instead of queueing the request.
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After value in whole seconds, at least one
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    /**
+     * The busy exception in the cause chain, if any; JPA, Spring and Spring Security wrap it in their own
+     */
+    public static ServiceBusyException findIn(Throwable ex) {
+        for (var cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceBusyException busy) {
+                return busy;
+            }
+        }
+        return null;
+    }
+}
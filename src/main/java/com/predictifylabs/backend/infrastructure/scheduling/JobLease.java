@@ -0,0 +1,77 @@
+package com.predictifylabs.backend.infrastructure.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Database leases electing one instance to run a job.
+ * The holder renews its lease on every run; when it stops (crash, shutdown, lost
+ * connection) the lease expires and the next instance asking takes it over. Each
+ * acquire is a single upsert, so no connection has to be held between runs.
+ */
+@Component
+@Slf4j
+public class JobLease {
+
+    /**
+     * Inserts or renews the lease; an expired lease of another holder is taken over,
+     * a live one is left untouched and no row is reported
+     */
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO job_leases (name, holder, expires_at) VALUES (?, ?, NOW() + make_interval(secs => ?))
+            ON CONFLICT (name) DO UPDATE SET holder = EXCLUDED.holder, expires_at = EXCLUDED.expires_at
+            WHERE job_leases.holder = EXCLUDED.holder OR job_leases.expires_at < NOW()
+            """;
+
+    private static final String RELEASE_SQL = "DELETE FROM job_leases WHERE name = ? AND holder = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String holder = UUID.randomUUID().toString();
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    public JobLease(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Acquire or renew a lease for the given time; false when another instance holds it
+     * or the database cannot be reached
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        boolean acquired;
+        try {
+            acquired = jdbcTemplate.update(ACQUIRE_SQL, name, holder, ttl.toMillis() / 1000.0) > 0;
+        } catch (RuntimeException e) {
+            log.warn("Could not renew job lease {}: {}", name, e.getMessage());
+            acquired = false;
+        }
+        if (acquired && held.add(name)) {
+            log.info("Acquired job lease {}", name);
+        } else if (!acquired && held.remove(name)) {
+            log.info("Lost job lease {}", name);
+        }
+        return acquired;
+    }
+
+    /**
+     * Hand the leases over right away instead of letting them expire
+     */
+    @PreDestroy
+    public void releaseAll() {
+        for (var name : held) {
+            try {
+                jdbcTemplate.update(RELEASE_SQL, name, holder);
+            } catch (RuntimeException e) {
+                log.debug("Could not release job lease {}: {}", name, e.getMessage());
+            }
+        }
+        held.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package com.predictifylabs.backend.infrastructure.security;
+
+import com.predictifylabs.backend.application.service.RolePermissionCatalog;
+import com.predictifylabs.backend.domain.model.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * Evaluates {@code hasPermission(...)} in {@code @PreAuthorize} against the compiled
+ * permissions of the user's roles, e.g. {@code hasPermission(null, 'events.feature')}.
+ * The target object is not used: permissions are granted per role, ownership checks stay
+ * in the services.
+ */
+@Component
+@RequiredArgsConstructor
+public class RolePermissionEvaluator implements PermissionEvaluator {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private final RolePermissionCatalog catalog;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return check(authentication, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        return check(authentication, permission);
+    }
+
+    // Helper methods
+
+    private boolean check(Authentication authentication, Object permission) {
+        if (authentication == null || !authentication.isAuthenticated() || !(permission instanceof String permissionId)) {
+            return false;
+        }
+        var snapshot = catalog.current();
+        int ordinal = snapshot.ordinalOf(permissionId);
+        if (ordinal < 0) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            var role = toRole(authority.getAuthority());
+            if (role != null && snapshot.permissionsOf(role).contains(ordinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Role toRole(String authority) {
+        if (authority == null || !authority.startsWith(ROLE_PREFIX)) {
+            return null;
+        }
+        try {
+            return Role.valueOf(authority.substring(ROLE_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
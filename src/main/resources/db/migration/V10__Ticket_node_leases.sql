@@ -0,0 +1,12 @@
+-- Leased node ids for ticket codes
+-- Created: 2026-10-18
+-- Description: Each instance leases one of the 1024 node ids packed into ticket codes and
+-- renews it before expires_at. issued_until is the highest (seconds, sequence) state the
+-- holder may issue under its current renewal, so an instance taking the node id over
+-- after a crash continues above every code the previous holder could have issued.
+CREATE TABLE IF NOT EXISTS ticket_nodes (
+    node_id INTEGER PRIMARY KEY,
+    holder VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    issued_until BIGINT NOT NULL DEFAULT 0
+);
@@ -0,0 +1,21 @@
+-- Seed the factors computed by PredictionEngine into prediction_factors_catalog
+-- Created: 2026-10-18
+-- Description: Weights were hardcoded in PredictionService. They are now read from
+-- the catalog (default_weight / is_active) and reloaded in memory at runtime.
+-- Only applied when the catalog has the current (id, default_weight) layout.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'prediction_factors_catalog' AND column_name = 'default_weight'
+    ) THEN
+        INSERT INTO prediction_factors_catalog (id, name, description, icon, type, default_weight) VALUES
+            ('time_until_event', 'Time Until Event', 'Closer events are more likely to be attended', 'clock-circle', 'positive', 0.20),
+            ('registration_rate', 'Registration Rate', 'Share of the capacity already registered', 'user-add', 'positive', 0.30),
+            ('interest_level', 'Interest Level', 'Users who marked the event as interesting', 'heart', 'positive', 0.15),
+            ('visibility', 'Visibility', 'Event page views', 'eye', 'positive', 0.10),
+            ('price_accessibility', 'Price Accessibility', 'Free events are easier to attend', 'dollar', 'neutral', 0.15),
+            ('promotion_status', 'Promotion Status', 'Featured or trending listing', 'star', 'neutral', 0.10)
+        ON CONFLICT (id) DO NOTHING;
+    END IF;
+END $$;
@@ -0,0 +1,15 @@
+-- Latest prediction / history series index
+-- Created: 2026-10-18
+-- Description: findLatestByEventId and the history endpoint both filter by event_id
+-- and order by calculated_at, which is served by idx_event_predictions_latest as declared
+-- in schema.sql. Same name and IF NOT EXISTS, so databases that already have it keep the
+-- existing index and no duplicate is built. Only applied when the table has the current layout.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'event_predictions' AND column_name = 'calculated_at'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_event_predictions_latest ON event_predictions (event_id, calculated_at DESC);
+    END IF;
+END $$;
@@ -0,0 +1,13 @@
+-- Keyset pagination index for organizer registration listings
+-- Created: 2026-10-18
+-- Description: Registrations of an event are paged by (registered_at, id).
+-- Only applied when the table has the current layout.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'event_registrations' AND column_name = 'registered_at'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_event_registrations_keyset ON event_registrations (event_id, registered_at, id);
+    END IF;
+END $$;
@@ -0,0 +1,13 @@
+-- Per-user lookup index for the "my events" dashboard
+-- Created: 2026-10-18
+-- Description: event_interested is keyed by (event_id, user_id), so listing the events
+-- a user is interested in needs its own index. saved_events is already keyed by user_id first.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'event_interested' AND column_name = 'user_id'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_event_interested_user ON event_interested (user_id, created_at DESC);
+    END IF;
+END $$;
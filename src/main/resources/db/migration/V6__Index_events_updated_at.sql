@@ -0,0 +1,19 @@
+-- Change-tracking indexes for the in-memory event indexes
+-- Created: 2026-10-18
+-- Description: The recommendation catalog and the nearby-events grid reload only rows
+-- changed since their previous refresh, filtering on updated_at.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'events' AND column_name = 'updated_at'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_events_updated_at ON events (updated_at);
+    END IF;
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'event_locations' AND column_name = 'updated_at'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_event_locations_updated_at ON event_locations (updated_at);
+    END IF;
+END $$;
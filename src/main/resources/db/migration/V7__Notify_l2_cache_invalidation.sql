@@ -0,0 +1,33 @@
+-- Invalidation notifications for the second-level cache
+-- Created: 2026-10-18
+-- Description: Rows of the cached reference tables also change outside Hibernate (counter
+-- triggers, JDBC batch updates, other instances). Every change is announced on the
+-- l2_cache_invalidation channel as '<table>:<id>', delivered on commit, so each instance
+-- evicts its cached copy; inserts also invalidate the cached queries over the table.
+CREATE OR REPLACE FUNCTION notify_l2_cache_invalidation()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('l2_cache_invalidation', TG_TABLE_NAME || ':' || OLD.id::text);
+    ELSE
+        PERFORM pg_notify('l2_cache_invalidation', TG_TABLE_NAME || ':' || NEW.id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    cached_table TEXT;
+BEGIN
+    FOREACH cached_table IN ARRAY ARRAY[
+        'organizers', 'permissions', 'role_permissions', 'protected_routes', 'prediction_factors_catalog', 'tags'
+    ] LOOP
+        IF to_regclass(cached_table) IS NOT NULL THEN
+            EXECUTE format('DROP TRIGGER IF EXISTS l2_cache_invalidation_trigger ON %I', cached_table);
+            EXECUTE format(
+                'CREATE TRIGGER l2_cache_invalidation_trigger AFTER INSERT OR UPDATE OR DELETE ON %I '
+                'FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation()', cached_table);
+        END IF;
+    END LOOP;
+END $$;
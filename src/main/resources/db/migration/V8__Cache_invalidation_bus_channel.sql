@@ -0,0 +1,17 @@
+-- Second-level cache invalidations on the shared cache invalidation bus
+-- Created: 2026-10-18
+-- Description: Row changes of the cached reference tables are now published on the
+-- cache_invalidation channel used by the application, as 'db|<table>:<id>', so one
+-- listener per instance fans them out to the second-level cache and any other local
+-- cache registered for the table. The triggers created in V7 keep calling this function.
+CREATE OR REPLACE FUNCTION notify_l2_cache_invalidation()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('cache_invalidation', 'db|' || TG_TABLE_NAME || ':' || OLD.id::text);
+    ELSE
+        PERFORM pg_notify('cache_invalidation', 'db|' || TG_TABLE_NAME || ':' || NEW.id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,10 @@
+-- Leases for jobs that must run on a single instance
+-- Created: 2026-10-18
+-- Description: An instance holds a lease while it keeps renewing it before expires_at;
+-- once expired any other instance can take it over. Used for the is_trending flag
+-- synchronization.
+CREATE TABLE IF NOT EXISTS job_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    holder VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -621,6 +621,15 @@ INSERT INTO prediction_factors_catalog (id, name, description, icon, type, defau
     ('holiday_season', 'Temporada de vacaciones', 'Menor asistencia en época de vacaciones', 'gift', 'negative', -0.06),
     ('weekend_event', 'Evento en fin de semana', 'Puede aumentar o disminuir asistencia según tipo', 'calendar', 'neutral', -0.05);
 
+-- Factores calculados por el motor de predicción (pesos recargados en memoria)
+INSERT INTO prediction_factors_catalog (id, name, description, icon, type, default_weight) VALUES
+    ('time_until_event', 'Tiempo hasta el evento', 'Eventos próximos tienen mayor probabilidad de asistencia', 'clock-circle', 'positive', 0.20),
+    ('registration_rate', 'Tasa de registro', 'Porcentaje de la capacidad ya registrada', 'user-add', 'positive', 0.30),
+    ('interest_level', 'Nivel de interés', 'Usuarios interesados en el evento', 'heart', 'positive', 0.15),
+    ('visibility', 'Visibilidad', 'Visitas a la página del evento', 'eye', 'positive', 0.10),
+    ('price_accessibility', 'Accesibilidad de precio', 'Eventos gratuitos son más accesibles', 'dollar', 'neutral', 0.15),
+    ('promotion_status', 'Estado de promoción', 'Evento destacado o en tendencia', 'star', 'neutral', 0.10);
+
 -- -----------------------------------------------------------------------------
 -- TABLA: event_predictions
 -- Descripción: Predicciones de asistencia para eventos
@@ -860,6 +869,34 @@ CREATE TABLE audit_log (
         REFERENCES users(id) ON DELETE SET NULL
 );
 
+-- =============================================================================
+-- TABLAS DE COORDINACIÓN ENTRE INSTANCIAS
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- TABLA: ticket_nodes
+-- Descripción: Node ids de los códigos de ticket, arrendados por cada instancia.
+-- issued_until es el estado más alto que el titular puede emitir con su renovación
+-- actual, así quien toma el node id tras una caída sigue por encima de sus códigos
+-- -----------------------------------------------------------------------------
+CREATE TABLE ticket_nodes (
+    node_id INTEGER PRIMARY KEY,
+    holder VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    issued_until BIGINT NOT NULL DEFAULT 0
+);
+
+-- -----------------------------------------------------------------------------
+-- TABLA: job_leases
+-- Descripción: Arriendos de tareas que deben correr en una sola instancia; el
+-- titular los renueva antes de expires_at y al expirar otra instancia los toma
+-- -----------------------------------------------------------------------------
+CREATE TABLE job_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    holder VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
 -- =============================================================================
 -- ÍNDICES OPTIMIZADOS
 -- =============================================================================
@@ -890,20 +927,28 @@ CREATE INDEX idx_events_search ON events
 -- Índice trigram para búsqueda aproximada
 CREATE INDEX idx_events_title_trgm ON events USING GIN (title gin_trgm_ops);
 
+-- Índice para recargas incrementales de los índices en memoria
+CREATE INDEX idx_events_updated_at ON events (updated_at);
+
 -- Índices para event_locations
 CREATE INDEX idx_event_locations_city ON event_locations (city);
 CREATE INDEX idx_event_locations_country ON event_locations (country);
 CREATE INDEX idx_event_locations_type ON event_locations (type);
 CREATE INDEX idx_event_locations_geo ON event_locations (latitude, longitude) 
     WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+CREATE INDEX idx_event_locations_updated_at ON event_locations (updated_at);
 
 -- Índices para registrations
 CREATE INDEX idx_event_registrations_user ON event_registrations (user_id);
 CREATE INDEX idx_event_registrations_event ON event_registrations (event_id);
+CREATE INDEX idx_event_registrations_keyset ON event_registrations (event_id, registered_at, id);
 CREATE INDEX idx_event_registrations_status ON event_registrations (status);
 CREATE INDEX idx_event_registrations_attended ON event_registrations (event_id, attended) 
     WHERE attended = TRUE;
 
+-- Índices para intereses de usuarios (saved_events ya está indexado por su PK)
+CREATE INDEX idx_event_interested_user ON event_interested (user_id, created_at DESC);
+
 -- Índices para predictions
 CREATE INDEX idx_event_predictions_event ON event_predictions (event_id);
 CREATE INDEX idx_event_predictions_level ON event_predictions (level);
@@ -1525,6 +1570,49 @@ CREATE TRIGGER update_protected_routes_updated_at
     BEFORE UPDATE ON protected_routes
     FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 
+-- =============================================================================
+-- INVALIDACIÓN DE LA CACHÉ DE SEGUNDO NIVEL
+-- =============================================================================
+
+-- Anuncia cada cambio de las tablas de referencia cacheadas como 'db|<tabla>:<id>'
+-- en el canal cache_invalidation del bus de la aplicación, entregado al hacer commit;
+-- cada instancia lo reparte a la caché de segundo nivel y a sus cachés locales
+CREATE OR REPLACE FUNCTION notify_l2_cache_invalidation()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('cache_invalidation', 'db|' || TG_TABLE_NAME || ':' || OLD.id::text);
+    ELSE
+        PERFORM pg_notify('cache_invalidation', 'db|' || TG_TABLE_NAME || ':' || NEW.id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON organizers
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON permissions
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON role_permissions
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON protected_routes
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON prediction_factors_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
+CREATE TRIGGER l2_cache_invalidation_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON tags
+    FOR EACH ROW EXECUTE FUNCTION notify_l2_cache_invalidation();
+
 -- =============================================================================
 -- POLÍTICAS DE ROW LEVEL SECURITY (RLS) COMPLETAS
 -- =============================================================================
@@ -0,0 +1,70 @@
+package com.predictifylabs.backend.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoGridTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 0.7, 1.0})
+    void antimeridianSidesShareACell(double cellDegrees) {
+        var grid = new GeoGrid(cellDegrees);
+
+        assertThat(grid.cellOf(10, 180)).isEqualTo(grid.cellOf(10, -180));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 0.7, 1.0})
+    void queryCoversEventAcrossTheAntimeridian(double cellDegrees) {
+        var grid = new GeoGrid(cellDegrees);
+
+        assertThat(grid.covering(-16.5, -179.95, 20)).contains(grid.cellOf(-16.5, 179.95));
+        assertThat(grid.covering(-16.5, 179.95, 20)).contains(grid.cellOf(-16.5, -179.95));
+        assertThat(GeoGrid.distanceKm(-16.5, -179.95, -16.5, 179.95)).isLessThan(20);
+    }
+
+    @Test
+    void coveringListsEachCellOnce() {
+        var grid = new GeoGrid(0.1);
+
+        var covering = grid.covering(0, 179.99, 200);
+
+        assertThat(new HashSet<>(covering)).hasSameSizeAs(covering);
+    }
+
+    @Test
+    void poleLatitudesStayInsideTheGrid() {
+        var grid = new GeoGrid(0.1);
+        long cells = (long) grid.latCells() * grid.lonCells();
+
+        assertThat(grid.cellOf(90, 0)).isBetween(0L, cells - 1);
+        assertThat(grid.cellOf(-90, 0)).isBetween(0L, cells - 1);
+        assertThat(grid.cellOf(90, 180)).isEqualTo(grid.cellOf(90, -180));
+    }
+
+    @Test
+    void queryNearAPoleCoversEveryMeridian() {
+        var grid = new GeoGrid(0.1);
+
+        var north = grid.covering(89.95, 0, 10);
+        var south = grid.covering(-89.95, 45, 10);
+
+        // The opposite meridian is only ~11 km away across the pole
+        assertThat(GeoGrid.distanceKm(89.95, 0, 89.95, 180)).isLessThan(12);
+        assertThat(north).contains(grid.cellOf(89.95, 180), grid.cellOf(89.95, -90));
+        assertThat(south).contains(grid.cellOf(-89.95, -135), grid.cellOf(-89.95, 90));
+        assertThat(new HashSet<>(north)).hasSameSizeAs(north);
+    }
+
+    @Test
+    void distanceMatchesKnownValues() {
+        assertThat(GeoGrid.distanceKm(0, 0, 0, 1)).isCloseTo(111.2, within(0.1));
+        assertThat(GeoGrid.distanceKm(90, 0, -90, 0)).isCloseTo(Math.PI * GeoGrid.EARTH_RADIUS_KM, within(0.01));
+    }
+}
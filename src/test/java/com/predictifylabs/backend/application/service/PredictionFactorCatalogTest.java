@@ -0,0 +1,54 @@
+package com.predictifylabs.backend.application.service;
+
+import com.predictifylabs.backend.infrastructure.adapters.output.persistence.repository.PredictionFactorsCatalogRepository;
+import com.predictifylabs.backend.infrastructure.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PredictionFactorCatalogTest {
+
+    @Test
+    void slowerReloadOfOlderRowsDoesNotOverwriteNewerWeights() throws Exception {
+        var repository = mock(PredictionFactorsCatalogRepository.class);
+        var olderReadStarted = new CountDownLatch(1);
+        var finishOlderRead = new CountDownLatch(1);
+        var newerReadStarted = new CountDownLatch(1);
+        when(repository.findWeightsByIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    olderReadStarted.countDown();
+                    finishOlderRead.await(5, TimeUnit.SECONDS);
+                    return List.<Object[]>of(row(0.40));
+                })
+                .thenAnswer(invocation -> {
+                    newerReadStarted.countDown();
+                    return List.<Object[]>of(row(0.50));
+                });
+        var catalog = new PredictionFactorCatalog(repository, mock(CacheInvalidationBus.class));
+
+        var older = CompletableFuture.supplyAsync(catalog::reload);
+        assertThat(olderReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        var newer = CompletableFuture.supplyAsync(catalog::reload);
+        // The newer reload must wait for the older one instead of reading alongside it
+        assertThat(newerReadStarted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        finishOlderRead.countDown();
+        older.get(5, TimeUnit.SECONDS);
+        newer.get(5, TimeUnit.SECONDS);
+
+        assertThat(catalog.current().weight(PredictionEngine.Factor.REGISTRATION_RATE)).isEqualTo(0.50);
+        assertThat(catalog.current().version()).isEqualTo(2);
+    }
+
+    private static Object[] row(double weight) {
+        return new Object[]{PredictionEngine.Factor.REGISTRATION_RATE.getCatalogId(), BigDecimal.valueOf(weight), true};
+    }
+}
@@ -0,0 +1,111 @@
+package com.predictifylabs.backend.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCodeGeneratorTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Test
+    void encodedValuesDecodeToTheSameValue() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >>> 4;
+
+            var code = TicketCodeGenerator.encode(value);
+
+            assertThat(code).startsWith(TicketCodeGenerator.PREFIX).hasSize(17);
+            assertThat(TicketCodeGenerator.isValid(code)).isTrue();
+            assertThat(TicketCodeGenerator.decode(code)).isEqualTo(value);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, (1L << 60) - 1})
+    void boundaryValuesRoundTrip(long value) {
+        assertThat(TicketCodeGenerator.decode(TicketCodeGenerator.encode(value))).isEqualTo(value);
+    }
+
+    @Test
+    void issuedCodesCarryTheNodeId() {
+        var generator = new TicketCodeGenerator(517);
+
+        var code = generator.next();
+
+        assertThat(TicketCodeGenerator.nodeIdOf(TicketCodeGenerator.decode(code))).isEqualTo(517);
+    }
+
+    @Test
+    void issuedCodesIncreaseStrictly() {
+        var generator = new TicketCodeGenerator(3);
+        long previous = -1;
+        for (int i = 0; i < 100_000; i++) {
+            long value = TicketCodeGenerator.decode(generator.next());
+
+            assertThat(value).isGreaterThan(previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    void normalizeResolvesCaseSeparatorsAndAliases() {
+        var code = TicketCodeGenerator.encode(123_456_789_012L);
+        var typed = code.toLowerCase().replace('0', 'o').replace('1', 'l');
+        typed = typed.substring(0, 8) + "-" + typed.substring(8);
+
+        assertThat(TicketCodeGenerator.normalize(" " + typed + " ")).isEqualTo(code);
+    }
+
+    @Test
+    void everySingleCharacterChangeIsRejected() {
+        var code = TicketCodeGenerator.encode(987_654_321_098L);
+        for (int i = TicketCodeGenerator.PREFIX.length(); i < code.length(); i++) {
+            for (char c : ALPHABET.toCharArray()) {
+                if (c == code.charAt(i)) {
+                    continue;
+                }
+                var typo = code.substring(0, i) + c + code.substring(i + 1);
+
+                assertThat(TicketCodeGenerator.isValid(typo)).as(typo).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void adjacentTranspositionsAreRejectedExceptZeroAndZ() {
+        for (int i = TicketCodeGenerator.PREFIX.length(); i < 15; i++) {
+            for (char a : ALPHABET.toCharArray()) {
+                for (char b : ALPHABET.toCharArray()) {
+                    if (a == b) {
+                        continue;
+                    }
+                    int shift = 5 * (14 - i);
+                    var code = TicketCodeGenerator.encode(
+                            ((long) ALPHABET.indexOf(a) << (shift + 5)) | ((long) ALPHABET.indexOf(b) << shift));
+                    var swapped = code.substring(0, i) + b + a + code.substring(i + 2);
+
+                    boolean zeroAndZ = (a == '0' && b == 'Z') || (a == 'Z' && b == '0');
+                    assertThat(TicketCodeGenerator.isValid(swapped)).as(swapped).isEqualTo(zeroAndZ);
+                }
+            }
+        }
+    }
+
+    @Test
+    void invalidCodesDoNotDecode() {
+        var code = TicketCodeGenerator.encode(42L);
+        var wrongCheck = code.substring(0, code.length() - 1) + (code.endsWith("0") ? "1" : "0");
+
+        assertThat(TicketCodeGenerator.isValid(wrongCheck)).isFalse();
+        assertThatThrownBy(() -> TicketCodeGenerator.decode(wrongCheck)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(TicketCodeGenerator.isValid("TKT-1A2B3C4D")).isFalse();
+        assertThat(TicketCodeGenerator.isLegacy("TKT-1A2B3C4D")).isTrue();
+    }
+}